@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the HISP project nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.common;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+import lombok.Value;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Position of a row in an order by last updated descending, then id
+ * descending, used for keyset paging of events and tracked entity instances.
+ * The cursor is exposed to clients as an opaque token which is passed back as
+ * the {@code pageAfter} parameter to fetch the page following the row.
+ */
+@Value
+public class PageCursor
+{
+    private static final String SEPARATOR = ":";
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    Timestamp lastUpdated;
+
+    long id;
+
+    /**
+     * @return the opaque token representing this cursor.
+     */
+    public String toToken()
+    {
+        long seconds = Math.floorDiv( lastUpdated.getTime(), 1000L );
+        long micros = seconds * MICROS_PER_SECOND + lastUpdated.getNanos() / 1000;
+
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString( (micros + SEPARATOR + id).getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    /**
+     * Parses the given token.
+     *
+     * @param token the token.
+     * @return the cursor, or null if the token is blank which denotes the first
+     *         page.
+     * @throws IllegalQueryException if the token is not valid.
+     */
+    public static PageCursor fromToken( String token )
+    {
+        if ( StringUtils.isBlank( token ) )
+        {
+            return null;
+        }
+
+        try
+        {
+            String[] parts = new String( Base64.getUrlDecoder().decode( token ), StandardCharsets.UTF_8 )
+                .split( SEPARATOR );
+
+            long micros = Long.parseLong( parts[0] );
+
+            Timestamp lastUpdated = new Timestamp( Math.floorDiv( micros, MICROS_PER_SECOND ) * 1000L );
+            lastUpdated.setNanos( (int) Math.floorMod( micros, MICROS_PER_SECOND ) * 1000 );
+
+            return new PageCursor( lastUpdated, Long.parseLong( parts[1] ) );
+        }
+        catch ( IllegalArgumentException | ArrayIndexOutOfBoundsException e )
+        {
+            throw new IllegalQueryException( "Page token is not valid: " + token );
+        }
+    }
+}
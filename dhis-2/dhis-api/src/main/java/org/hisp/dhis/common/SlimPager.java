@@ -47,6 +47,8 @@ public class SlimPager extends Pager
 
     private Boolean lastPage;
 
+    private String nextPageAfter;
+
     public SlimPager( final int page, final int pageSize, final Boolean lastPage )
     {
         // Total is always ZERO, as the main goal of this object it to never
@@ -66,4 +68,23 @@ public class SlimPager extends Pager
     {
         return lastPage;
     }
+
+    /**
+     * Token to pass as the {@code pageAfter} parameter to fetch the next page,
+     * only present when paging with keyset paging and this is not the last
+     * page.
+     *
+     * @return the token of the next page or null
+     */
+    @JsonProperty
+    @JacksonXmlProperty( namespace = DXF_2_0 )
+    public String getNextPageAfter()
+    {
+        return nextPageAfter;
+    }
+
+    public void setNextPageAfter( String nextPageAfter )
+    {
+        this.nextPageAfter = nextPageAfter;
+    }
 }
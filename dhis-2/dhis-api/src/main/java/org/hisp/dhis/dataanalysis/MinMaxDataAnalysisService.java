@@ -31,6 +31,7 @@ import java.util.Collection;
 
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.scheduling.JobProgress;
 
 public interface MinMaxDataAnalysisService
     extends DataAnalysisService
@@ -41,7 +42,8 @@ public interface MinMaxDataAnalysisService
      * @param parent the parent organisation unit.
      * @param dataElements the data elements.
      * @param stdDevFactor the std dev factor.
+     * @param progress to track progress.
      */
     void generateMinMaxValues( OrganisationUnit parent,
-        Collection<DataElement> dataElements, Double stdDevFactor );
+        Collection<DataElement> dataElements, Double stdDevFactor, JobProgress progress );
 }
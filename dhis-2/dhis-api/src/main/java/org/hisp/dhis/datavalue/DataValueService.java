@@ -33,6 +33,7 @@ import java.util.List;
 import org.hisp.dhis.category.CategoryCombo;
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.common.IllegalQueryException;
+import org.hisp.dhis.common.SetMap;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.period.Period;
@@ -207,6 +208,16 @@ public interface DataValueService
      */
     int getDataValueCountLastUpdatedBetween( Date startDate, Date endDate, boolean includeDeleted );
 
+    /**
+     * Returns the UIDs of the data elements of data values which have been
+     * updated on or after the given date, including deleted data values,
+     * grouped by the ID of the organisation unit of the data value.
+     *
+     * @param lastUpdated the date to compare against data value last updated.
+     * @return a mapping from organisation unit ID to data element UIDs.
+     */
+    SetMap<Long, String> getDataElementUidsByOrgUnitLastUpdatedAfter( Date lastUpdated );
+
     /**
      * Checks if any data values exist for the provided {@link CategoryCombo}.
      *
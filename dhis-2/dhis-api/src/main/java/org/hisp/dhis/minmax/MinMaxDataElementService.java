@@ -29,6 +29,8 @@ package org.hisp.dhis.minmax;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.dataelement.DataElement;
@@ -63,4 +65,7 @@ public interface MinMaxDataElementService
     void removeMinMaxDataElements( CategoryOptionCombo optionCombo );
 
     void removeMinMaxDataElements( Collection<DataElement> dataElements, OrganisationUnit parent );
+
+    int generateMinMaxDataElements( Map<DataElement, Set<CategoryOptionCombo>> categoryOptionCombos,
+        String pathPattern, double stdDevFactor );
 }
@@ -29,6 +29,8 @@ package org.hisp.dhis.minmax;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.common.GenericStore;
@@ -58,4 +60,19 @@ public interface MinMaxDataElementStore
     void delete( CategoryOptionCombo optionCombo );
 
     void delete( Collection<DataElement> dataElements, OrganisationUnit parent );
+
+    /**
+     * Replaces the min-max values of the given data elements for the
+     * organisation units with a path matching the given pattern with values
+     * generated from the data value statistics, as the average plus and minus
+     * the standard deviation times the given factor.
+     *
+     * @param categoryOptionCombos the data elements mapped to the category
+     *        option combos to generate values for.
+     * @param pathPattern the SQL like pattern for organisation unit paths.
+     * @param stdDevFactor the standard deviation factor.
+     * @return the number of generated min-max values.
+     */
+    int generate( Map<DataElement, Set<CategoryOptionCombo>> categoryOptionCombos, String pathPattern,
+        double stdDevFactor );
 }
@@ -596,6 +596,16 @@ public class OrganisationUnit
         return uids;
     }
 
+    /**
+     * Indicates whether this organisation unit has a stored path, in which
+     * case ancestors can be resolved from {@link #getAncestorUids(Set)}
+     * without traversing the parent graph.
+     */
+    public boolean hasStoredPath()
+    {
+        return path != null && !path.isEmpty();
+    }
+
     public void updateParent( OrganisationUnit newParent )
     {
         if ( this.parent != null && this.parent.getChildren() != null )
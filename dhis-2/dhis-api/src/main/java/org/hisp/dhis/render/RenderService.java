@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.hisp.dhis.common.IdentifiableObject;
+import org.hisp.dhis.deletedobject.DeletedObject;
 import org.hisp.dhis.metadata.version.MetadataVersion;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -99,6 +100,27 @@ public interface RenderService
         RenderFormat format )
         throws IOException;
 
+    /**
+     * Finds collections of id objects based on the root properties of an
+     * already parsed metadata payload.
+     *
+     * @param rootNode Root node of the payload
+     * @return Map of all id object types that were found
+     * @see #fromMetadata(InputStream, RenderFormat)
+     */
+    Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> fromMetadata( JsonNode rootNode )
+        throws IOException;
+
+    /**
+     * Parses the "deletedObjects" root property of a metadata payload, as
+     * written by a metadata export with a since parameter.
+     *
+     * @param rootNode Root node of the payload
+     * @return List of deleted objects, empty if the property is missing
+     */
+    List<DeletedObject> fromDeletedObjects( JsonNode rootNode )
+        throws IOException;
+
     /**
      * Parses the input stream for the collection of MetadataVersion objects.
      *
@@ -55,6 +55,18 @@ public interface ResourceTableStore
      */
     void generateResourceTable( ResourceTable<?> resourceTable );
 
+    /**
+     * Returns a signature of the current content of the source tables of the
+     * given resource table type, based on row counts and hashes of the row
+     * content. The signature changes when source rows are inserted, updated
+     * or deleted. Returns null if the resource table has no source tables or
+     * has hooks, in which case it must always be regenerated.
+     *
+     * @param tableType the {@link ResourceTableType}.
+     * @return a signature of the source tables, or null.
+     */
+    String getSourceSignature( ResourceTableType tableType );
+
     /**
      * Performs a batch update.
      *
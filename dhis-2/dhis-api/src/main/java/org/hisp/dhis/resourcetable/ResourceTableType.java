@@ -27,20 +27,27 @@
  */
 package org.hisp.dhis.resourcetable;
 
+import java.util.List;
+
 /**
  * @author Lars Helge Overland
  */
 public enum ResourceTableType
 {
-    ORG_UNIT_STRUCTURE( "_orgunitstructure" ),
+    ORG_UNIT_STRUCTURE( "_orgunitstructure", "organisationunit" ),
     DATA_SET_ORG_UNIT_CATEGORY( "_datasetorganisationunitcategory" ),
-    CATEGORY_OPTION_COMBO_NAME( "_categoryoptioncomboname" ),
-    DATA_ELEMENT_GROUP_SET_STRUCTURE( "_dataelementgroupsetstructure" ),
+    CATEGORY_OPTION_COMBO_NAME( "_categoryoptioncomboname", "categorycombo", "categorycombos_categories",
+        "categorycombos_optioncombos", "category", "categories_categoryoptions", "dataelementcategoryoption",
+        "categoryoptioncombo", "categoryoptioncombos_categoryoptions" ),
+    DATA_ELEMENT_GROUP_SET_STRUCTURE( "_dataelementgroupsetstructure", "dataelement", "dataelementgroup",
+        "dataelementgroupmembers", "dataelementgroupset", "dataelementgroupsetmembers" ),
     INDICATOR_GROUP_SET_STRUCTURE( "_indicatorgroupsetstructure" ),
     ORG_UNIT_GROUP_SET_STRUCTURE( "_organisationunitgroupsetstructure" ),
-    CATEGORY_STRUCTURE( "_categorystructure" ),
+    CATEGORY_STRUCTURE( "_categorystructure", "category", "categories_categoryoptions", "dataelementcategoryoption",
+        "categoryoptioncombo", "categoryoptioncombos_categoryoptions", "categoryoptiongroup",
+        "categoryoptiongroupmembers", "categoryoptiongroupset", "categoryoptiongroupsetmembers" ),
     DATA_ELEMENT_STRUCTURE( "_dataelementstructure" ),
-    PERIOD_STRUCTURE( "_periodstructure" ),
+    PERIOD_STRUCTURE( "_periodstructure", "period", "periodtype" ),
     DATE_PERIOD_STRUCTURE( "_dateperiodstructure" ),
     DATA_ELEMENT_CATEGORY_OPTION_COMBO( "_dataelementcategoryoptioncombo" ),
     DATA_APPROVAL_REMAP_LEVEL( "_dataapprovalremaplevel" ),
@@ -48,13 +55,26 @@ public enum ResourceTableType
 
     private String tableName;
 
-    ResourceTableType( String tableName )
+    private List<String> sourceTables;
+
+    ResourceTableType( String tableName, String... sourceTables )
     {
         this.tableName = tableName;
+        this.sourceTables = List.of( sourceTables );
     }
 
     public String getTableName()
     {
         return tableName;
     }
+
+    /**
+     * Returns the names of the database tables from which the content of the
+     * resource table is derived. An empty list indicates that the resource
+     * table must always be regenerated.
+     */
+    public List<String> getSourceTables()
+    {
+        return sourceTables;
+    }
 }
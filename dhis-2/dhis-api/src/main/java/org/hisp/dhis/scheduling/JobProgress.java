@@ -485,7 +485,9 @@ public interface JobProgress
             return;
         }
         int cores = Runtime.getRuntime().availableProcessors();
-        boolean useCustomPool = parallelism >= cores;
+        // the common pool already runs with (almost) all cores, a smaller
+        // parallelism needs a pool of its own to be respected
+        boolean useCustomPool = parallelism < cores;
         AtomicInteger success = new AtomicInteger();
         AtomicInteger failed = new AtomicInteger();
 
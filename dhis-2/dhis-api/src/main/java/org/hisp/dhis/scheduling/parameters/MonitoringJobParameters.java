@@ -37,6 +37,7 @@ import org.hisp.dhis.common.DxfNamespaces;
 import org.hisp.dhis.feedback.ErrorCode;
 import org.hisp.dhis.feedback.ErrorReport;
 import org.hisp.dhis.scheduling.JobParameters;
+import org.hisp.dhis.util.DateUtils;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
@@ -64,6 +65,12 @@ public class MonitoringJobParameters
 
     private boolean persistResults;
 
+    /**
+     * If set, only organisation units and validation rules with data values
+     * updated within this duration are validated, e.g. "25h".
+     */
+    private String lastUpdatedDuration;
+
     public MonitoringJobParameters()
     {
     }
@@ -139,6 +146,23 @@ public class MonitoringJobParameters
         this.persistResults = persistResults;
     }
 
+    @JsonProperty
+    @JacksonXmlProperty( namespace = DxfNamespaces.DXF_2_0 )
+    public String getLastUpdatedDuration()
+    {
+        return lastUpdatedDuration;
+    }
+
+    public void setLastUpdatedDuration( String lastUpdatedDuration )
+    {
+        this.lastUpdatedDuration = lastUpdatedDuration;
+    }
+
+    public boolean hasLastUpdatedDuration()
+    {
+        return lastUpdatedDuration != null;
+    }
+
     @Override
     public Optional<ErrorReport> validate()
     {
@@ -159,6 +183,12 @@ public class MonitoringJobParameters
                 "validationRuleGroups" ) );
         }
 
+        if ( hasLastUpdatedDuration() && DateUtils.getDuration( lastUpdatedDuration ) == null )
+        {
+            return Optional.of( new ErrorReport( this.getClass(), ErrorCode.E4027, lastUpdatedDuration,
+                "lastUpdatedDuration" ) );
+        }
+
         return Optional.empty();
     }
 
@@ -33,6 +33,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.hisp.dhis.common.DxfNamespaces;
 import org.hisp.dhis.common.EmbeddedObject;
@@ -85,6 +87,16 @@ public class Property implements Ordered, Klass
      */
     private Method setterMethod;
 
+    /**
+     * Compiled accessor for the getter method, created on first use.
+     */
+    private volatile Function<Object, Object> getter;
+
+    /**
+     * Compiled accessor for the setter method, created on first use.
+     */
+    private volatile BiConsumer<Object, Object> setter;
+
     /**
      * Name for this property, if this class is a collection, it is the name of
      * the items -inside- the collection and not the collection wrapper itself.
@@ -379,6 +391,7 @@ public class Property implements Ordered, Klass
     public void setGetterMethod( Method getterMethod )
     {
         this.getterMethod = getterMethod;
+        this.getter = null;
     }
 
     public Method getSetterMethod()
@@ -389,6 +402,59 @@ public class Property implements Ordered, Klass
     public void setSetterMethod( Method setterMethod )
     {
         this.setterMethod = setterMethod;
+        this.setter = null;
+    }
+
+    /**
+     * Reads the value of this property from the given object using a compiled
+     * accessor for the getter method.
+     *
+     * @param target the object to read from
+     * @return the property value, or null if target or getter is missing
+     */
+    @SuppressWarnings( "unchecked" )
+    public <T> T getValue( Object target )
+    {
+        if ( target == null || getterMethod == null )
+        {
+            return null;
+        }
+
+        Function<Object, Object> accessor = getter;
+
+        if ( accessor == null )
+        {
+            accessor = PropertyAccessors.getter( getterMethod );
+            getter = accessor;
+        }
+
+        return (T) accessor.apply( target );
+    }
+
+    /**
+     * Writes the value of this property to the given object using a compiled
+     * accessor for the setter method. Does nothing if target or setter is
+     * missing.
+     *
+     * @param target the object to write to
+     * @param value the value to set
+     */
+    public void setValue( Object target, Object value )
+    {
+        if ( target == null || setterMethod == null )
+        {
+            return;
+        }
+
+        BiConsumer<Object, Object> accessor = setter;
+
+        if ( accessor == null )
+        {
+            accessor = PropertyAccessors.setter( setterMethod );
+            setter = accessor;
+        }
+
+        accessor.accept( target, value );
     }
 
     @JsonProperty
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the HISP project nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.schema;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiles getter and setter {@link Method}s of a {@link Property} into
+ * functional accessors using {@link LambdaMetafactory}. Calling the resulting
+ * lambdas avoids the argument boxing and access checks of
+ * {@link Method#invoke(Object, Object...)} and allows the JIT to inline the
+ * accessor at the call site.
+ * <p>
+ * If a method can not be compiled (e.g. because its declaring class is not
+ * accessible) the accessor falls back to reflection. Protected and private
+ * methods are never invoked, matching the behaviour of
+ * {@code ReflectionUtils.invokeMethod}.
+ */
+@Slf4j
+final class PropertyAccessors
+{
+    private static final Function<Object, Object> NO_GETTER = target -> null;
+
+    private static final BiConsumer<Object, Object> NO_SETTER = ( target, value ) -> {
+    };
+
+    private PropertyAccessors()
+    {
+        throw new UnsupportedOperationException( "util" );
+    }
+
+    static Function<Object, Object> getter( Method method )
+    {
+        if ( !isInvocable( method ) )
+        {
+            return NO_GETTER;
+        }
+
+        try
+        {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect( method );
+
+            CallSite site = LambdaMetafactory.metafactory( lookup, "apply",
+                MethodType.methodType( Function.class ),
+                MethodType.methodType( Object.class, Object.class ),
+                handle, handle.type().wrap() );
+
+            @SuppressWarnings( "unchecked" )
+            Function<Object, Object> getter = (Function<Object, Object>) site.getTarget().invoke();
+
+            return getter;
+        }
+        catch ( Throwable ex )
+        {
+            log.debug( "Falling back to reflection for getter " + method + ": " + ex.getMessage() );
+
+            return target -> invoke( method, target );
+        }
+    }
+
+    static BiConsumer<Object, Object> setter( Method method )
+    {
+        if ( !isInvocable( method ) || method.getParameterCount() != 1 )
+        {
+            return NO_SETTER;
+        }
+
+        try
+        {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect( method );
+
+            CallSite site = LambdaMetafactory.metafactory( lookup, "accept",
+                MethodType.methodType( BiConsumer.class ),
+                MethodType.methodType( void.class, Object.class, Object.class ),
+                handle, handle.type().wrap().changeReturnType( void.class ) );
+
+            @SuppressWarnings( "unchecked" )
+            BiConsumer<Object, Object> setter = (BiConsumer<Object, Object>) site.getTarget().invoke();
+
+            return setter;
+        }
+        catch ( Throwable ex )
+        {
+            log.debug( "Falling back to reflection for setter " + method + ": " + ex.getMessage() );
+
+            return ( target, value ) -> invoke( method, target, value );
+        }
+    }
+
+    private static boolean isInvocable( Method method )
+    {
+        return method != null && !Modifier.isProtected( method.getModifiers() )
+            && !Modifier.isPrivate( method.getModifiers() );
+    }
+
+    private static Object invoke( Method method, Object target, Object... args )
+    {
+        try
+        {
+            return method.invoke( target, args );
+        }
+        catch ( InvocationTargetException | IllegalAccessException e )
+        {
+            throw new RuntimeException( e );
+        }
+    }
+}
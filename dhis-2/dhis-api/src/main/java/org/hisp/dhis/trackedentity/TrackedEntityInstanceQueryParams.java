@@ -244,6 +244,18 @@ public class TrackedEntityInstanceQueryParams
      */
     private boolean skipPaging;
 
+    /**
+     * Token of the tracked entity instance after which the page starts,
+     * enables keyset paging. An empty token denotes the first page.
+     */
+    private String pageAfter;
+
+    /**
+     * Token of the last tracked entity instance of the fetched page, set when
+     * fetching a keyset page which is not the last one.
+     */
+    private String nextPageAfter;
+
     /**
      * Indicates if there is a maximum tei retrieval limit. 0 no limit.
      */
@@ -802,6 +814,15 @@ public class TrackedEntityInstanceQueryParams
         return !isSkipPaging();
     }
 
+    /**
+     * Indicates whether keyset paging is used, in which case the page starts
+     * after the tracked entity instance given by the page after token.
+     */
+    public boolean isKeysetPaging()
+    {
+        return pageAfter != null && !skipPaging;
+    }
+
     /**
      * Returns the page number, falls back to default value of 1 if not
      * specified.
@@ -862,6 +883,7 @@ public class TrackedEntityInstanceQueryParams
             .add( "pageSize", pageSize )
             .add( "totalPages", totalPages )
             .add( "skipPaging", skipPaging )
+            .add( "pageAfter", pageAfter )
             .add( "includeDeleted", includeDeleted )
             .add( "includeAllAttributes", includeAllAttributes )
             .add( "internalSearch", internalSearch )
@@ -1152,6 +1174,28 @@ public class TrackedEntityInstanceQueryParams
         return this;
     }
 
+    public String getPageAfter()
+    {
+        return pageAfter;
+    }
+
+    public TrackedEntityInstanceQueryParams setPageAfter( String pageAfter )
+    {
+        this.pageAfter = pageAfter;
+        return this;
+    }
+
+    public String getNextPageAfter()
+    {
+        return nextPageAfter;
+    }
+
+    public TrackedEntityInstanceQueryParams setNextPageAfter( String nextPageAfter )
+    {
+        this.nextPageAfter = nextPageAfter;
+        return this;
+    }
+
     public int getMaxTeiLimit()
     {
         return maxTeiLimit;
@@ -28,6 +28,7 @@
 package org.hisp.dhis.validation;
 
 import java.util.Collection;
+import java.util.Date;
 
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
@@ -75,6 +76,8 @@ public final class ValidationAnalysisParams
 
     private int dayInPeriod = -1;
 
+    private Date lastUpdated;
+
     /**
      * Gets the rules selected for analysis
      *
@@ -162,6 +165,18 @@ public final class ValidationAnalysisParams
         return dayInPeriod;
     }
 
+    /**
+     * Gets the date from which data values must have been updated for an
+     * organisation unit and validation rule to be analysed. If null, all
+     * organisation units and validation rules are analysed.
+     *
+     * @return the last updated date, or null if not incremental.
+     */
+    public Date getLastUpdated()
+    {
+        return lastUpdated;
+    }
+
     /**
      * Limits the number of results we should look for. This can help prevent
      * the analysis running too long by stopping after a set number of results,
@@ -254,6 +269,19 @@ public final class ValidationAnalysisParams
             return this;
         }
 
+        /**
+         * Restricts the analysis to organisation units and validation rules
+         * with data values updated on or after the given date.
+         *
+         * @param lastUpdated the last updated date, or null to analyse all.
+         * @return the updated builder object
+         */
+        public Builder withLastUpdated( Date lastUpdated )
+        {
+            this.params.lastUpdated = lastUpdated;
+            return this;
+        }
+
         /**
          * The max number of results we want from the analysis.
          *
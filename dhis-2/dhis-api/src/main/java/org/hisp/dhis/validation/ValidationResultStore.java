@@ -53,4 +53,12 @@ public interface ValidationResultStore
         boolean includeOrgUnitDescendants, Collection<ValidationRule> validationRules, Collection<Period> periods );
 
     void delete( ValidationResultsDeletionRequest request );
+
+    /**
+     * Inserts the given new validation results using JDBC batches within the
+     * current transaction.
+     *
+     * @param validationResults the validation results to insert.
+     */
+    void saveBatch( Collection<ValidationResult> validationResults );
 }
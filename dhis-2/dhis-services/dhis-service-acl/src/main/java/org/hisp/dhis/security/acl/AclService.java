@@ -340,6 +340,18 @@ public interface AclService
      */
     <T extends IdentifiableObject> Access getAccess( T object, User user, Class<? extends T> objType );
 
+    /**
+     * Return the access objects for a list of objects for a specific user. The
+     * user related data needed for the checks is only computed once, so this
+     * should be preferred over {@link #getAccess(IdentifiableObject, User)}
+     * when evaluating many objects.
+     *
+     * @param objects Objects to check for access
+     * @param user User to check against
+     * @return Populated access instances, in the order of the given objects
+     */
+    <T extends IdentifiableObject> List<Access> getAccess( List<T> objects, User user );
+
     /**
      * Sets default sharing props on object, disregarding what is already there.
      *
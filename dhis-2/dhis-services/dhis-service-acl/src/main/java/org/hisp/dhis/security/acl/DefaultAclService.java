@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.hisp.dhis.category.CategoryOption;
 import org.hisp.dhis.category.CategoryOptionCombo;
@@ -131,6 +132,11 @@ public class DefaultAclService implements AclService
 
     @Override
     public <T extends IdentifiableObject> boolean canRead( User user, T object, Class<? extends T> objType )
+    {
+        return canRead( new UserContext( user ), object, objType );
+    }
+
+    private <T extends IdentifiableObject> boolean canRead( UserContext user, T object, Class<? extends T> objType )
     {
         if ( readWriteCommonCheck( user, objType ) )
         {
@@ -164,10 +170,12 @@ public class DefaultAclService implements AclService
     @SuppressWarnings( "unchecked" )
     public boolean canDataRead( User user, IdentifiableObject object )
     {
-        return object == null || canDataRead( user, object, HibernateProxyUtils.getRealClass( object ) );
+        return object == null
+            || canDataRead( new UserContext( user ), object, HibernateProxyUtils.getRealClass( object ) );
     }
 
-    private <T extends IdentifiableObject> boolean canDataRead( User user, T object, Class<? extends T> objType )
+    private <T extends IdentifiableObject> boolean canDataRead( UserContext user, T object,
+        Class<? extends T> objType )
     {
         if ( readWriteCommonCheck( user, objType ) )
         {
@@ -207,10 +215,12 @@ public class DefaultAclService implements AclService
     @SuppressWarnings( "unchecked" )
     public boolean canWrite( User user, IdentifiableObject object )
     {
-        return object == null || canWrite( user, object, HibernateProxyUtils.getRealClass( object ) );
+        return object == null
+            || canWrite( new UserContext( user ), object, HibernateProxyUtils.getRealClass( object ) );
     }
 
-    private <T extends IdentifiableObject> boolean canWrite( User user, T object, Class<? extends T> objType )
+    private <T extends IdentifiableObject> boolean canWrite( UserContext user, T object,
+        Class<? extends T> objType )
     {
         if ( readWriteCommonCheck( user, objType ) )
         {
@@ -248,10 +258,12 @@ public class DefaultAclService implements AclService
     @SuppressWarnings( "unchecked" )
     public boolean canDataWrite( User user, IdentifiableObject object )
     {
-        return object == null || canDataWrite( user, object, HibernateProxyUtils.getRealClass( object ) );
+        return object == null
+            || canDataWrite( new UserContext( user ), object, HibernateProxyUtils.getRealClass( object ) );
     }
 
-    private <T extends IdentifiableObject> boolean canDataWrite( User user, T object, Class<? extends T> objType )
+    private <T extends IdentifiableObject> boolean canDataWrite( UserContext user, T object,
+        Class<? extends T> objType )
     {
         if ( readWriteCommonCheck( user, objType ) )
         {
@@ -284,10 +296,12 @@ public class DefaultAclService implements AclService
     @SuppressWarnings( "unchecked" )
     public boolean canUpdate( User user, IdentifiableObject object )
     {
-        return object == null || canUpdate( user, object, HibernateProxyUtils.getRealClass( object ) );
+        return object == null
+            || canUpdate( new UserContext( user ), object, HibernateProxyUtils.getRealClass( object ) );
     }
 
-    private <T extends IdentifiableObject> boolean canUpdate( User user, T object, Class<? extends T> objType )
+    private <T extends IdentifiableObject> boolean canUpdate( UserContext user, T object,
+        Class<? extends T> objType )
     {
         if ( readWriteCommonCheck( user, objType ) )
         {
@@ -322,10 +336,12 @@ public class DefaultAclService implements AclService
     @SuppressWarnings( "unchecked" )
     public boolean canDelete( User user, IdentifiableObject object )
     {
-        return object == null || canDelete( user, object, HibernateProxyUtils.getRealClass( object ) );
+        return object == null
+            || canDelete( new UserContext( user ), object, HibernateProxyUtils.getRealClass( object ) );
     }
 
-    private <T extends IdentifiableObject> boolean canDelete( User user, T object, Class<? extends T> objType )
+    private <T extends IdentifiableObject> boolean canDelete( UserContext user, T object,
+        Class<? extends T> objType )
     {
         if ( readWriteCommonCheck( user, objType ) )
         {
@@ -371,7 +387,8 @@ public class DefaultAclService implements AclService
         return canUpdate( user, object );
     }
 
-    private <T extends IdentifiableObject> boolean canManage( User user, T object, Class<? extends T> objType )
+    private <T extends IdentifiableObject> boolean canManage( UserContext user, T object,
+        Class<? extends T> objType )
     {
         return canUpdate( user, object, objType );
     }
@@ -382,7 +399,7 @@ public class DefaultAclService implements AclService
         Schema schema = schemaService.getSchema( klass );
 
         return schema == null || schema.getAuthorityByType( AuthorityType.READ ) == null
-            || canAccess( user, schema.getAuthorityByType( AuthorityType.READ ) );
+            || canAccess( new UserContext( user ), schema.getAuthorityByType( AuthorityType.READ ) );
     }
 
     @Override
@@ -395,12 +412,14 @@ public class DefaultAclService implements AclService
             return false;
         }
 
+        UserContext userContext = new UserContext( user );
+
         if ( !schema.isShareable() )
         {
-            return canAccess( user, schema.getAuthorityByType( AuthorityType.CREATE ) );
+            return canAccess( userContext, schema.getAuthorityByType( AuthorityType.CREATE ) );
         }
 
-        return canMakeClassPublic( user, klass ) || canMakeClassPrivate( user, klass );
+        return canMakeClassPublic( userContext, klass ) || canMakeClassPrivate( userContext, klass );
     }
 
     @Override
@@ -412,6 +431,11 @@ public class DefaultAclService implements AclService
 
     @Override
     public <T extends IdentifiableObject> boolean canMakeClassPublic( User user, Class<T> klass )
+    {
+        return canMakeClassPublic( new UserContext( user ), klass );
+    }
+
+    private boolean canMakeClassPublic( UserContext user, Class<?> klass )
     {
         Schema schema = schemaService.getSchema( klass );
 
@@ -430,6 +454,11 @@ public class DefaultAclService implements AclService
 
     @Override
     public <T extends IdentifiableObject> boolean canMakeClassPrivate( User user, Class<T> klass )
+    {
+        return canMakeClassPrivate( new UserContext( user ), klass );
+    }
+
+    private boolean canMakeClassPrivate( UserContext user, Class<?> klass )
     {
         Schema schema = schemaService.getSchema( klass );
         return !(schema == null || !schema.isShareable())
@@ -445,6 +474,11 @@ public class DefaultAclService implements AclService
 
     @Override
     public <T extends IdentifiableObject> boolean canMakeClassExternal( User user, Class<T> klass )
+    {
+        return canMakeClassExternal( new UserContext( user ), klass );
+    }
+
+    private boolean canMakeClassExternal( UserContext user, Class<?> klass )
     {
         Schema schema = schemaService.getSchema( klass );
         return !(schema == null || !schema.isShareable())
@@ -492,7 +526,30 @@ public class DefaultAclService implements AclService
     @Override
     public <T extends IdentifiableObject> Access getAccess( T object, User user, Class<? extends T> objType )
     {
-        if ( user == null || user.isSuper() )
+        return getAccess( object, new UserContext( user ), objType );
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public <T extends IdentifiableObject> List<Access> getAccess( List<T> objects, User user )
+    {
+        UserContext userContext = new UserContext( user );
+
+        List<Access> accesses = new ArrayList<>( objects.size() );
+
+        for ( T object : objects )
+        {
+            accesses.add( object == null
+                ? new Access( true )
+                : getAccess( object, userContext, HibernateProxyUtils.getRealClass( object ) ) );
+        }
+
+        return accesses;
+    }
+
+    private <T extends IdentifiableObject> Access getAccess( T object, UserContext user, Class<? extends T> objType )
+    {
+        if ( user.isOverride() )
         {
             Access access = new Access( true );
 
@@ -662,9 +719,10 @@ public class DefaultAclService implements AclService
     {
         List<ErrorReport> errorReports = new ArrayList<>();
         Schema schema = schemaService.getSchema( HibernateProxyUtils.getRealClass( object ) );
+        UserContext userContext = new UserContext( user );
 
-        if ( !schema.isImplicitPrivateAuthority() || checkUser( user, object )
-            || checkSharingPermission( user, object, Permission.WRITE ) )
+        if ( !schema.isImplicitPrivateAuthority() || checkUser( userContext, object )
+            || checkSharingPermission( userContext, object, Permission.WRITE ) )
         {
             return errorReports;
         }
@@ -678,19 +736,19 @@ public class DefaultAclService implements AclService
         return errorReports;
     }
 
-    private boolean haveOverrideAuthority( User user )
+    private boolean haveOverrideAuthority( UserContext user )
     {
-        return user == null || user.isSuper();
+        return user.isOverride();
     }
 
-    private boolean canAccess( User user, Collection<String> anyAuthorities )
+    private boolean canAccess( UserContext user, Collection<String> anyAuthorities )
     {
         return haveOverrideAuthority( user ) || anyAuthorities.isEmpty() || haveAuthority( user, anyAuthorities );
     }
 
-    private boolean haveAuthority( User user, Collection<String> anyAuthorities )
+    private boolean haveAuthority( UserContext user, Collection<String> anyAuthorities )
     {
-        return containsAny( user.getAllAuthorities(), anyAuthorities );
+        return containsAny( user.getAuthorities(), anyAuthorities );
     }
 
     /**
@@ -700,10 +758,10 @@ public class DefaultAclService implements AclService
      * @param object Object to check against
      * @return true/false depending on if access should be allowed
      */
-    private boolean checkUser( User user, IdentifiableObject object )
+    private boolean checkUser( UserContext user, IdentifiableObject object )
     {
-        return user == null || object.getSharing().getOwner() == null ||
-            user.getUid().equals( object.getSharing().getOwner() );
+        return user.getUser() == null || object.getSharing().getOwner() == null ||
+            user.getUser().getUid().equals( object.getSharing().getOwner() );
     }
 
     /**
@@ -715,7 +773,7 @@ public class DefaultAclService implements AclService
      * @return true/false depending on if sharing settings are allowed for given
      *         user
      */
-    private <T extends IdentifiableObject> boolean checkSharingAccess( User user, IdentifiableObject object,
+    private <T extends IdentifiableObject> boolean checkSharingAccess( UserContext user, IdentifiableObject object,
         Class<T> objType )
     {
         boolean canMakePublic = canMakeClassPublic( user, objType );
@@ -754,7 +812,7 @@ public class DefaultAclService implements AclService
      * @param permission Permission to check against
      * @return true if user can access object, false otherwise
      */
-    private boolean checkSharingPermission( User user, IdentifiableObject object, Permission permission )
+    private boolean checkSharingPermission( UserContext user, IdentifiableObject object, Permission permission )
     {
         Sharing sharing = object.getSharing();
         if ( AccessStringHelper.isEnabled( sharing.getPublicAccess(), permission ) )
@@ -762,14 +820,14 @@ public class DefaultAclService implements AclService
             return true;
         }
 
-        if ( sharing.getUserGroups() != null && !CollectionUtils.isEmpty( user.getGroups() ) )
+        if ( sharing.getUserGroups() != null && !user.getGroupUids().isEmpty() )
         {
             for ( UserGroupAccess userGroupAccess : sharing.getUserGroups().values() )
             {
                 // Check if user is allowed to read this object through group
                 // access
                 if ( AccessStringHelper.isEnabled( userGroupAccess.getAccess(), permission )
-                    && hasUserGroupAccess( user.getGroups(), userGroupAccess.getId() ) )
+                    && user.getGroupUids().contains( userGroupAccess.getId() ) )
                 {
                     return true;
                 }
@@ -784,7 +842,7 @@ public class DefaultAclService implements AclService
                 // access
 
                 if ( AccessStringHelper.isEnabled( userAccess.getAccess(), permission )
-                    && user.getUid().equals( userAccess.getId() ) )
+                    && user.getUser().getUid().equals( userAccess.getId() ) )
                 {
                     return true;
                 }
@@ -794,7 +852,8 @@ public class DefaultAclService implements AclService
         return false;
     }
 
-    private boolean checkOptionComboSharingPermission( User user, IdentifiableObject object, Permission permission )
+    private boolean checkOptionComboSharingPermission( UserContext user, IdentifiableObject object,
+        Permission permission )
     {
         CategoryOptionCombo optionCombo = (CategoryOptionCombo) object;
 
@@ -816,7 +875,7 @@ public class DefaultAclService implements AclService
         return accessibleOptions.size() == optionCombo.getCategoryOptions().size();
     }
 
-    private boolean readWriteCommonCheck( User user, Class<?> objType )
+    private boolean readWriteCommonCheck( UserContext user, Class<?> objType )
     {
         if ( haveOverrideAuthority( user ) )
         {
@@ -826,7 +885,7 @@ public class DefaultAclService implements AclService
         return schemaService.getSchema( objType ) == null;
     }
 
-    private <T extends IdentifiableObject> boolean writeCommonCheck( Schema schema, User user, T object,
+    private <T extends IdentifiableObject> boolean writeCommonCheck( Schema schema, UserContext user, T object,
         Class<? extends T> objType )
     {
         if ( !schema.isShareable() )
@@ -838,16 +897,57 @@ public class DefaultAclService implements AclService
             (checkUser( user, object ) || checkSharingPermission( user, object, Permission.WRITE ));
     }
 
-    private boolean hasUserGroupAccess( Set<UserGroup> userGroups, String userGroupUid )
+    /**
+     * User to evaluate access for, together with the user data needed for the
+     * checks. Authorities and user group UIDs are computed once per instance
+     * rather than once per check, which matters when the access of many
+     * objects is evaluated for the same user.
+     */
+    private static final class UserContext
     {
-        for ( UserGroup group : userGroups )
+        private final User user;
+
+        private final boolean override;
+
+        private Set<String> authorities;
+
+        private Set<String> groupUids;
+
+        UserContext( User user )
+        {
+            this.user = user;
+            this.override = user == null || user.isSuper();
+        }
+
+        User getUser()
+        {
+            return user;
+        }
+
+        boolean isOverride()
         {
-            if ( group.getUid().equals( userGroupUid ) )
+            return override;
+        }
+
+        Set<String> getAuthorities()
+        {
+            if ( authorities == null )
             {
-                return true;
+                authorities = user.getAllAuthorities();
             }
+
+            return authorities;
         }
 
-        return false;
+        Set<String> getGroupUids()
+        {
+            if ( groupUids == null )
+            {
+                groupUids = CollectionUtils.isEmpty( user.getGroups() ) ? Set.of()
+                    : user.getGroups().stream().map( UserGroup::getUid ).collect( Collectors.toSet() );
+            }
+
+            return groupUids;
+        }
     }
 }
@@ -33,6 +33,9 @@ import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_ITEM;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,16 +46,19 @@ import org.hisp.dhis.category.CategoryOptionGroupSet;
 import org.hisp.dhis.category.CategoryService;
 import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.IllegalQueryException;
+import org.hisp.dhis.common.event.ApplicationCacheClearedEvent;
 import org.hisp.dhis.dataapproval.DataApprovalLevelService;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataelement.DataElementGroupSet;
 import org.hisp.dhis.dataset.DataSet;
+import org.hisp.dhis.dbms.DbmsManager;
 import org.hisp.dhis.indicator.IndicatorGroupSet;
 import org.hisp.dhis.jdbc.StatementBuilder;
 import org.hisp.dhis.organisationunit.OrganisationUnitGroupSet;
 import org.hisp.dhis.organisationunit.OrganisationUnitLevel;
 import org.hisp.dhis.organisationunit.OrganisationUnitService;
 import org.hisp.dhis.period.PeriodService;
+import org.hisp.dhis.period.PeriodType;
 import org.hisp.dhis.resourcetable.table.CategoryOptionComboNameResourceTable;
 import org.hisp.dhis.resourcetable.table.CategoryOptionComboResourceTable;
 import org.hisp.dhis.resourcetable.table.CategoryResourceTable;
@@ -69,6 +75,7 @@ import org.hisp.dhis.resourcetable.table.PeriodResourceTable;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.sqlview.SqlView;
 import org.hisp.dhis.sqlview.SqlViewService;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -99,11 +106,19 @@ public class DefaultResourceTableService
 
     private final StatementBuilder statementBuilder;
 
+    private final DbmsManager dbmsManager;
+
+    /**
+     * Source table signatures of the resource tables as of their last
+     * generation, used to skip regeneration of unchanged resource tables.
+     */
+    private final Map<ResourceTableType, String> sourceSignatures = new ConcurrentHashMap<>();
+
     @Override
     @Transactional
     public void generateOrganisationUnitStructures()
     {
-        resourceTableStore.generateResourceTable( new OrganisationUnitStructureResourceTable(
+        generateResourceTable( ResourceTableType.ORG_UNIT_STRUCTURE, () -> new OrganisationUnitStructureResourceTable(
             null, organisationUnitService, organisationUnitService.getNumberOfOrganisationalLevels() ) );
     }
 
@@ -119,16 +134,17 @@ public class DefaultResourceTableService
     @Transactional
     public void generateCategoryOptionComboNames()
     {
-        resourceTableStore.generateResourceTable( new CategoryOptionComboNameResourceTable(
-            idObjectManager.getAllNoAcl( CategoryCombo.class ) ) );
+        generateResourceTable( ResourceTableType.CATEGORY_OPTION_COMBO_NAME,
+            () -> new CategoryOptionComboNameResourceTable( idObjectManager.getAllNoAcl( CategoryCombo.class ) ) );
     }
 
     @Override
     @Transactional
     public void generateDataElementGroupSetTable()
     {
-        resourceTableStore.generateResourceTable( new DataElementGroupSetResourceTable(
-            idObjectManager.getDataDimensionsNoAcl( DataElementGroupSet.class ) ) );
+        generateResourceTable( ResourceTableType.DATA_ELEMENT_GROUP_SET_STRUCTURE,
+            () -> new DataElementGroupSetResourceTable(
+                idObjectManager.getDataDimensionsNoAcl( DataElementGroupSet.class ) ) );
     }
 
     @Override
@@ -152,7 +168,7 @@ public class DefaultResourceTableService
     @Transactional
     public void generateCategoryTable()
     {
-        resourceTableStore.generateResourceTable( new CategoryResourceTable(
+        generateResourceTable( ResourceTableType.CATEGORY_STRUCTURE, () -> new CategoryResourceTable(
             idObjectManager.getDataDimensionsNoAcl( Category.class ),
             idObjectManager.getDataDimensionsNoAcl( CategoryOptionGroupSet.class ) ) );
     }
@@ -175,7 +191,8 @@ public class DefaultResourceTableService
     @Transactional
     public void generatePeriodTable()
     {
-        resourceTableStore.generateResourceTable( new PeriodResourceTable( periodService.getAllPeriods() ) );
+        generateResourceTable( ResourceTableType.PERIOD_STRUCTURE, PeriodType.getCalendar().name(),
+            () -> new PeriodResourceTable( periodService.getAllPeriods() ) );
     }
 
     @Override
@@ -203,6 +220,56 @@ public class DefaultResourceTableService
         }
     }
 
+    @EventListener
+    public void handleApplicationCachesCleared( ApplicationCacheClearedEvent event )
+    {
+        sourceSignatures.clear();
+    }
+
+    // -------------------------------------------------------------------------
+    // Supportive methods
+    // -------------------------------------------------------------------------
+
+    private void generateResourceTable( ResourceTableType tableType, Supplier<ResourceTable<?>> resourceTable )
+    {
+        generateResourceTable( tableType, "", resourceTable );
+    }
+
+    /**
+     * Generates the resource table of the given type, unless the source tables
+     * and the given context are unchanged since the resource table was last
+     * generated, in which case the existing resource table is kept. Clearing
+     * the application caches forces a full regeneration.
+     *
+     * @param tableType the {@link ResourceTableType}.
+     * @param context additional state the content depends on.
+     * @param resourceTable supplier of the resource table.
+     */
+    private void generateResourceTable( ResourceTableType tableType, String context,
+        Supplier<ResourceTable<?>> resourceTable )
+    {
+        String sourceSignature = resourceTableStore.getSourceSignature( tableType );
+        String signature = sourceSignature == null ? null : sourceSignature + context;
+
+        if ( signature != null && signature.equals( sourceSignatures.get( tableType ) )
+            && dbmsManager.tableExists( tableType.getTableName() ) )
+        {
+            log.info( "Skipping resource table '{}', source tables unchanged", tableType.getTableName() );
+            return;
+        }
+
+        resourceTableStore.generateResourceTable( resourceTable.get() );
+
+        if ( signature != null )
+        {
+            sourceSignatures.put( tableType, signature );
+        }
+        else
+        {
+            sourceSignatures.remove( tableType );
+        }
+    }
+
     // -------------------------------------------------------------------------
     // SQL Views. Each view is created/dropped in separate transactions so that
     // process continues even if individual operations fail.
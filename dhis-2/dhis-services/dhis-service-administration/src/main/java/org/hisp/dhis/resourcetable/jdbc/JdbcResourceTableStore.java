@@ -41,6 +41,7 @@ import org.hisp.dhis.dbms.DbmsManager;
 import org.hisp.dhis.jdbc.StatementBuilder;
 import org.hisp.dhis.resourcetable.ResourceTable;
 import org.hisp.dhis.resourcetable.ResourceTableStore;
+import org.hisp.dhis.resourcetable.ResourceTableType;
 import org.hisp.dhis.system.util.Clock;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
@@ -192,6 +193,32 @@ public class JdbcResourceTableStore
             String.format( "Resource table '%s' update done: '%s'", resourceTable.getTableName(), clock.time() ) );
     }
 
+    @Override
+    public String getSourceSignature( ResourceTableType tableType )
+    {
+        List<String> sourceTables = tableType.getSourceTables();
+
+        if ( sourceTables.isEmpty() || !analyticsTableHookService
+            .getByPhaseAndResourceTableType( AnalyticsTablePhase.RESOURCE_TABLE_POPULATED, tableType ).isEmpty() )
+        {
+            return null;
+        }
+
+        // Rows are compared through a hash of their content rather than the
+        // last updated timestamp, which is set at statement time and can be
+        // older than the newest timestamp when its transaction commits late
+
+        StringBuilder sql = new StringBuilder( "select ''" );
+
+        for ( String table : sourceTables )
+        {
+            sql.append( " || (select count(*) || ':' || coalesce(sum(hashtext(t::text)), 0) || ';' from " )
+                .append( table ).append( " t)" );
+        }
+
+        return jdbcTemplate.queryForObject( sql.toString(), String.class );
+    }
+
     @Override
     public void batchUpdate( int columns, String tableName, List<Object[]> batchArgs )
     {
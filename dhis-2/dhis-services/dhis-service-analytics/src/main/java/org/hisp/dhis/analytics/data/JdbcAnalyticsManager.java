@@ -40,11 +40,13 @@ import static org.hisp.dhis.analytics.AggregationType.VARIANCE;
 import static org.hisp.dhis.analytics.DataQueryParams.LEVEL_PREFIX;
 import static org.hisp.dhis.analytics.DataQueryParams.VALUE_ID;
 import static org.hisp.dhis.analytics.DataType.TEXT;
+import static org.hisp.dhis.analytics.table.JdbcCompletenessTargetTableManager.COL_ROLLUP_LEVEL;
 import static org.hisp.dhis.analytics.util.AnalyticsSqlUtils.ANALYTICS_TBL_ALIAS;
 import static org.hisp.dhis.analytics.util.AnalyticsSqlUtils.quote;
 import static org.hisp.dhis.analytics.util.AnalyticsSqlUtils.quoteAlias;
 import static org.hisp.dhis.analytics.util.AnalyticsUtils.throwIllegalQueryEx;
 import static org.hisp.dhis.common.DimensionalObject.DIMENSION_SEP;
+import static org.hisp.dhis.common.DimensionalObject.ORGUNIT_DIM_ID;
 import static org.hisp.dhis.common.IdentifiableObjectUtils.getUids;
 import static org.hisp.dhis.commons.util.TextUtils.getQuotedCommaDelimitedString;
 import static org.hisp.dhis.commons.util.TextUtils.removeLastOr;
@@ -541,6 +543,16 @@ public class JdbcAnalyticsManager
             sql += sqlHelper.whereAnd() + " " + quoteAlias( "timely" ) + " is true ";
         }
 
+        // ---------------------------------------------------------------------
+        // Completeness target rollup level restriction
+        // ---------------------------------------------------------------------
+
+        if ( AnalyticsTableType.COMPLETENESS_TARGET == tableType )
+        {
+            sql += sqlHelper.whereAnd() + " " + quoteAlias( COL_ROLLUP_LEVEL ) + " = " +
+                getCompletenessTargetRollupLevel( params ) + " ";
+        }
+
         // ---------------------------------------------------------------------
         // Partitions restriction to allow constraint exclusion
         // ---------------------------------------------------------------------
@@ -563,6 +575,42 @@ public class JdbcAnalyticsManager
         return sql;
     }
 
+    /**
+     * Returns the org unit level of the completeness target rows to read for
+     * the given query. Queries for org units of a single level read the rows
+     * rolled up to that level, queries without org units read the rows rolled
+     * up to the root level, and queries for org units of several levels read
+     * the rows of individual org units.
+     *
+     * @param params the {@link DataQueryParams}.
+     * @return the rollup level.
+     */
+    private int getCompletenessTargetRollupLevel( DataQueryParams params )
+    {
+        Set<Integer> levels = new HashSet<>();
+
+        List<DimensionalObject> orgUnitDims = Lists.newArrayList( params.getDimensionFilterMap()
+            .getOrDefault( ORGUNIT_DIM_ID, Lists.newArrayList() ) );
+
+        if ( params.getDimension( ORGUNIT_DIM_ID ) != null )
+        {
+            orgUnitDims.add( params.getDimension( ORGUNIT_DIM_ID ) );
+        }
+
+        for ( DimensionalObject dim : orgUnitDims )
+        {
+            for ( DimensionalItemObject item : dim.getItems() )
+            {
+                if ( item instanceof OrganisationUnit )
+                {
+                    levels.add( ((OrganisationUnit) item).getLevel() );
+                }
+            }
+        }
+
+        return levels.isEmpty() ? 1 : levels.size() == 1 ? levels.iterator().next() : 0;
+    }
+
     /**
      * Generates the group by clause of the query SQL.
      *
@@ -31,11 +31,13 @@ import static java.util.Collections.emptyList;
 import static org.hisp.dhis.analytics.ColumnDataType.CHARACTER_11;
 import static org.hisp.dhis.analytics.ColumnDataType.DATE;
 import static org.hisp.dhis.analytics.ColumnDataType.DOUBLE;
+import static org.hisp.dhis.analytics.ColumnDataType.INTEGER;
 import static org.hisp.dhis.analytics.ColumnNotNullConstraint.NOT_NULL;
 import static org.hisp.dhis.analytics.util.AnalyticsSqlUtils.quote;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -75,13 +77,20 @@ import com.google.common.collect.Sets;
 public class JdbcCompletenessTargetTableManager
     extends AbstractJdbcTableManager
 {
+    /**
+     * Column holding the org unit level to which the expected reports of a row
+     * are rolled up, where 0 indicates rows for individual org units.
+     */
+    public static final String COL_ROLLUP_LEVEL = "rolluplevel";
+
     private static final List<AnalyticsTableColumn> FIXED_COLS = ImmutableList.of(
         new AnalyticsTableColumn( quote( "ouopeningdate" ), DATE, "ou.openingdate" ),
         new AnalyticsTableColumn( quote( "oucloseddate" ), DATE, "ou.closeddate" ),
         new AnalyticsTableColumn( quote( "costartdate" ), DATE, "doc.costartdate" ),
         new AnalyticsTableColumn( quote( "coenddate" ), DATE, "doc.coenddate" ),
         new AnalyticsTableColumn( quote( "dx" ), CHARACTER_11, NOT_NULL, "ds.uid" ),
-        new AnalyticsTableColumn( quote( "ao" ), CHARACTER_11, NOT_NULL, "ao.uid" ) );
+        new AnalyticsTableColumn( quote( "ao" ), CHARACTER_11, NOT_NULL, "ao.uid" ),
+        new AnalyticsTableColumn( quote( COL_ROLLUP_LEVEL ), INTEGER, NOT_NULL, COL_ROLLUP_LEVEL ) );
 
     public JdbcCompletenessTargetTableManager( IdentifiableObjectManager idObjectManager,
         OrganisationUnitService organisationUnitService, CategoryService categoryService,
@@ -134,18 +143,43 @@ public class JdbcCompletenessTargetTableManager
         return emptyList();
     }
 
+    /**
+     * Populates the table with the expected reports for each org unit, and
+     * with the expected reports rolled up to each org unit level. Rolled up
+     * rows count the org units at or below the level which share the same
+     * dimension values, so that queries for a single org unit level read far
+     * fewer rows.
+     */
     @Override
     protected void populateTable( AnalyticsTableUpdateParams params, AnalyticsTablePartition partition )
     {
-        String tableName = partition.getTempTableName();
-
-        String sql = "insert into " + tableName + " (";
-
         List<AnalyticsTableColumn> columns = partition.getMasterTable().getDimensionColumns();
         List<AnalyticsTableColumn> values = partition.getMasterTable().getValueColumns();
 
         validateDimensionColumns( columns );
 
+        int levels = organisationUnitService.getNumberOfOrganisationalLevels();
+
+        for ( int level = 0; level <= levels; level++ )
+        {
+            populateTable( partition, columns, values, level, levels );
+        }
+    }
+
+    private void populateTable( AnalyticsTablePartition partition, List<AnalyticsTableColumn> columns,
+        List<AnalyticsTableColumn> values, int rollupLevel, int levels )
+    {
+        String tableName = partition.getTempTableName();
+
+        Set<String> rolledUpColumns = new HashSet<>();
+
+        for ( int level = rollupLevel + 1; rollupLevel > 0 && level <= levels; level++ )
+        {
+            rolledUpColumns.add( quote( PREFIX_ORGUNITLEVEL + level ) );
+        }
+
+        String sql = "insert into " + tableName + " (";
+
         for ( AnalyticsTableColumn col : ListUtils.union( columns, values ) )
         {
             sql += col.getName() + ",";
@@ -153,21 +187,37 @@ public class JdbcCompletenessTargetTableManager
 
         sql = TextUtils.removeLastComma( sql ) + ") select ";
 
+        String groupBy = "";
+
         for ( AnalyticsTableColumn col : columns )
         {
-            sql += col.getAlias() + ",";
+            if ( col.getName().equals( quote( COL_ROLLUP_LEVEL ) ) )
+            {
+                sql += rollupLevel + ",";
+            }
+            else if ( rolledUpColumns.contains( col.getName() ) )
+            {
+                sql += "null,";
+            }
+            else
+            {
+                sql += col.getAlias() + ",";
+                groupBy += col.getAlias() + ",";
+            }
         }
 
-        sql += "1 as value " +
+        sql += "count(*) as value " +
             "from _datasetorganisationunitcategory doc " +
             "inner join dataset ds on doc.datasetid=ds.datasetid " +
             "inner join organisationunit ou on doc.organisationunitid=ou.organisationunitid " +
             "left join _orgunitstructure ous on doc.organisationunitid=ous.organisationunitid " +
             "left join _organisationunitgroupsetstructure ougs on doc.organisationunitid=ougs.organisationunitid " +
             "left join categoryoptioncombo ao on doc.attributeoptioncomboid=ao.categoryoptioncomboid " +
-            "left join _categorystructure acs on doc.attributeoptioncomboid=acs.categoryoptioncomboid ";
+            "left join _categorystructure acs on doc.attributeoptioncomboid=acs.categoryoptioncomboid " +
+            (rollupLevel > 0 ? "where ous.level >= " + rollupLevel + " " : "") +
+            "group by " + TextUtils.removeLastComma( groupBy );
 
-        invokeTimeAndLog( sql, String.format( "Populate %s", tableName ) );
+        invokeTimeAndLog( sql, String.format( "Populate %s with rollup level %d", tableName, rollupLevel ) );
     }
 
     private List<AnalyticsTableColumn> getDimensionColumns()
@@ -30,6 +30,7 @@ package org.hisp.dhis.analytics.data;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hisp.dhis.DhisConvenienceTest.createDataElement;
+import static org.hisp.dhis.DhisConvenienceTest.createDataSet;
 import static org.hisp.dhis.DhisConvenienceTest.createOrganisationUnit;
 import static org.hisp.dhis.common.DimensionalObject.DATA_X_DIM_ID;
 import static org.hisp.dhis.common.DimensionalObject.ORGUNIT_DIM_ID;
@@ -37,6 +38,8 @@ import static org.hisp.dhis.common.DimensionalObject.PERIOD_DIM_ID;
 import static org.hisp.dhis.common.DimensionalObjectUtils.getList;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 import org.hisp.dhis.analytics.AggregationType;
 import org.hisp.dhis.analytics.AnalyticsAggregationType;
 import org.hisp.dhis.analytics.AnalyticsTableType;
@@ -47,8 +50,10 @@ import org.hisp.dhis.analytics.analyze.ExecutionPlanStore;
 import org.hisp.dhis.analytics.partition.PartitionManager;
 import org.hisp.dhis.common.BaseDimensionalObject;
 import org.hisp.dhis.common.DimensionType;
+import org.hisp.dhis.common.DimensionalItemObject;
 import org.hisp.dhis.common.ValueType;
 import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.dataset.DataSet;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.period.Period;
 import org.hisp.dhis.period.PeriodType;
@@ -145,6 +150,48 @@ class JdbcAnalyticsManagerTest
         assertExpectedLastSql( "desc" );
     }
 
+    @Test
+    void verifyCompletenessTargetQueryReadsRowsRolledUpToOrgUnitLevel()
+    {
+        OrganisationUnit ouA = createOrganisationUnit( 'A' );
+        OrganisationUnit ouB = createOrganisationUnit( 'B', ouA );
+        ouB.setPath( "/" + ouA.getUid() + "/" + ouB.getUid() );
+
+        DataQueryParams params = createCompletenessTargetParams( getList( ouB ) );
+
+        subject.getAggregatedDataValues( params, AnalyticsTableType.COMPLETENESS_TARGET, 20000 );
+
+        assertThat( sql.getValue(), containsString( "ax.\"rolluplevel\" = 2 " ) );
+    }
+
+    @Test
+    void verifyCompletenessTargetQueryReadsOrgUnitRowsForSeveralLevels()
+    {
+        OrganisationUnit ouA = createOrganisationUnit( 'A' );
+        OrganisationUnit ouB = createOrganisationUnit( 'B', ouA );
+        ouA.setPath( "/" + ouA.getUid() );
+        ouB.setPath( "/" + ouA.getUid() + "/" + ouB.getUid() );
+
+        DataQueryParams params = createCompletenessTargetParams( getList( ouA, ouB ) );
+
+        subject.getAggregatedDataValues( params, AnalyticsTableType.COMPLETENESS_TARGET, 20000 );
+
+        assertThat( sql.getValue(), containsString( "ax.\"rolluplevel\" = 0 " ) );
+    }
+
+    private DataQueryParams createCompletenessTargetParams( List<DimensionalItemObject> orgUnits )
+    {
+        DataSet dsA = createDataSet( 'A' );
+
+        return DataQueryParams.newBuilder().withDataType( DataType.NUMERIC )
+            .withTableName( "analytics_completenesstarget" )
+            .withSkipPartitioning( true )
+            .withAggregationType( AnalyticsAggregationType.SUM )
+            .addDimension( new BaseDimensionalObject( DATA_X_DIM_ID, DimensionType.DATA_X, getList( dsA ) ) )
+            .addFilter( new BaseDimensionalObject( ORGUNIT_DIM_ID, DimensionType.ORGANISATION_UNIT, orgUnits ) )
+            .build();
+    }
+
     private void mockRowSet()
     {
         // Simulate no rows
@@ -704,14 +704,15 @@ public class DefaultDataApprovalService
     }
 
     /**
-     * Returns a key consisting of organisation unit, period, and workflow.
-     * Approval status with these three values in common can be fetched in one
-     * call for many values of attributeOptionCombo.
+     * Returns a key consisting of organisation unit level, period, and
+     * workflow. Approval status with these three values in common can be
+     * fetched in one call for many organisation units and values of
+     * attributeOptionCombo.
      */
     private String statusKey( DataApproval approval )
     {
         return approval == null ? null
-            : approval.getOrganisationUnit().getId() +
+            : approval.getOrganisationUnit().getHierarchyLevel() +
                 IdentifiableObjectUtils.SEPARATOR + approval.getPeriod().getId() +
                 IdentifiableObjectUtils.SEPARATOR + approval.getWorkflow().getId();
     }
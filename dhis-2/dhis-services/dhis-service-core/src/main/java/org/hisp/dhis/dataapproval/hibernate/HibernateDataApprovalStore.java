@@ -150,7 +150,7 @@ public class HibernateDataApprovalStore
     @Override
     public void addDataApproval( DataApproval dataApproval )
     {
-        isApprovedCache.invalidateAll();
+        isApprovedCache.invalidate( dataApproval.getCacheKey() );
 
         dataApproval.setPeriod( periodService.reloadPeriod( dataApproval.getPeriod() ) );
 
@@ -160,7 +160,7 @@ public class HibernateDataApprovalStore
     @Override
     public void updateDataApproval( DataApproval dataApproval )
     {
-        isApprovedCache.invalidateAll();
+        // Existence is not affected by updates such as accepting
 
         dataApproval.setPeriod( periodService.reloadPeriod( dataApproval.getPeriod() ) );
 
@@ -170,7 +170,7 @@ public class HibernateDataApprovalStore
     @Override
     public void deleteDataApproval( DataApproval dataApproval )
     {
-        isApprovedCache.invalidateAll();
+        isApprovedCache.invalidate( dataApproval.getCacheKey() );
 
         dataApproval.setPeriod( periodService.reloadPeriod( dataApproval.getPeriod() ) );
 
@@ -315,15 +315,29 @@ public class HibernateDataApprovalStore
 
         if ( orgUnits != null )
         {
+            // Org units the user can't see are left out, the others are still
+            // returned
+
+            List<OrganisationUnit> visibleOrgUnits = new ArrayList<>();
+
             for ( OrganisationUnit orgUnit : orgUnits )
             {
-                if ( !organisationUnitService.isDescendant( orgUnit, userOrgUnits ) )
+                if ( organisationUnitService.isDescendant( orgUnit, userOrgUnits ) )
+                {
+                    visibleOrgUnits.add( orgUnit );
+                }
+                else
                 {
                     log.debug( "User " + user.getUsername() + " can't see orgUnit " + orgUnit.getName() );
-
-                    return new ArrayList<>(); // Unapprovable.
                 }
             }
+
+            if ( visibleOrgUnits.isEmpty() )
+            {
+                return new ArrayList<>(); // Unapprovable.
+            }
+
+            orgUnits = visibleOrgUnits;
         }
 
         // ---------------------------------------------------------------------
@@ -422,7 +436,7 @@ public class HibernateDataApprovalStore
         {
             orgUnitIds = StringUtils.join( IdentifiableObjectUtils.getIdentifiers( orgUnits ), "," );
 
-            highestApprovedOrgUnitCompare = "da.organisationunitid in (" + orgUnitIds + ") ";
+            highestApprovedOrgUnitCompare = "da.organisationunitid = o.organisationunitid ";
         }
         else
         {
@@ -43,6 +43,7 @@ import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.category.CategoryService;
 import org.hisp.dhis.common.AuditType;
 import org.hisp.dhis.common.IllegalQueryException;
+import org.hisp.dhis.common.SetMap;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.feedback.ErrorCode;
@@ -358,6 +359,13 @@ public class DefaultDataValueService
         return dataValueStore.getDataValueCountLastUpdatedBetween( startDate, endDate, includeDeleted );
     }
 
+    @Override
+    @Transactional( readOnly = true )
+    public SetMap<Long, String> getDataElementUidsByOrgUnitLastUpdatedAfter( Date lastUpdated )
+    {
+        return dataValueStore.getDataElementUidsByOrgUnitLastUpdatedAfter( lastUpdated );
+    }
+
     @Override
     @Transactional( readOnly = true )
     public boolean dataValueExists( CategoryCombo combo )
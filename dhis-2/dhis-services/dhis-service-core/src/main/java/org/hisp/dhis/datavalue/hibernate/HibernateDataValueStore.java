@@ -32,6 +32,7 @@ import static org.hisp.dhis.common.OrganisationUnitSelectionMode.DESCENDANTS;
 import static org.hisp.dhis.commons.util.TextUtils.getCommaDelimitedString;
 import static org.hisp.dhis.commons.util.TextUtils.removeLastOr;
 
+import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
@@ -53,6 +54,7 @@ import org.hibernate.SessionFactory;
 import org.hibernate.query.Query;
 import org.hisp.dhis.category.CategoryCombo;
 import org.hisp.dhis.category.CategoryOptionCombo;
+import org.hisp.dhis.common.SetMap;
 import org.hisp.dhis.commons.util.SqlHelper;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataelement.DataElementOperand;
@@ -68,7 +70,6 @@ import org.hisp.dhis.period.PeriodStore;
 import org.hisp.dhis.util.DateUtils;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -476,49 +477,54 @@ public class HibernateDataValueStore extends HibernateGenericStore<DataValue>
             sql += " order by ou.path";
         }
 
-        SqlRowSet rowSet = jdbcTemplate.queryForRowSet( sql );
-
         List<DeflatedDataValue> result = new ArrayList<>();
 
-        while ( rowSet.next() )
-        {
-            Integer dataElementId = rowSet.getInt( 1 );
-            Integer periodId = rowSet.getInt( 2 );
-            Integer organisationUnitId = rowSet.getInt( 3 );
-            Integer categoryOptionComboId = rowSet.getInt( 4 );
-            Integer attributeOptionComboId = rowSet.getInt( 5 );
-            String value = rowSet.getString( 6 );
-            String storedBy = rowSet.getString( 7 );
-            Date created = rowSet.getDate( 8 );
-            Date lastUpdated = rowSet.getDate( 9 );
-            String comment = rowSet.getString( 10 );
-            boolean followup = rowSet.getBoolean( 11 );
-            boolean deleted = rowSet.getBoolean( 12 );
-            String sourcePath = joinOrgUnit ? rowSet.getString( 13 ) : null;
-
-            DeflatedDataValue ddv = new DeflatedDataValue( dataElementId, periodId,
-                organisationUnitId, categoryOptionComboId, attributeOptionComboId,
-                value, storedBy, created, lastUpdated, comment, followup, deleted );
+        // Rows are read as they are returned instead of being copied into a
+        // disconnected row set first, which would hold every value twice
 
-            ddv.setSourcePath( sourcePath );
-
-            if ( params.hasBlockingQueue() )
+        jdbcTemplate.query( sql, ( ResultSet rs ) -> {
+            while ( rs.next() )
             {
-                if ( !addToBlockingQueue( params.getBlockingQueue(), ddv ) )
+                Integer dataElementId = rs.getInt( 1 );
+                Integer periodId = rs.getInt( 2 );
+                Integer organisationUnitId = rs.getInt( 3 );
+                Integer categoryOptionComboId = rs.getInt( 4 );
+                Integer attributeOptionComboId = rs.getInt( 5 );
+                String value = rs.getString( 6 );
+                String storedBy = rs.getString( 7 );
+                Date created = rs.getDate( 8 );
+                Date lastUpdated = rs.getDate( 9 );
+                String comment = rs.getString( 10 );
+                boolean followup = rs.getBoolean( 11 );
+                boolean deleted = rs.getBoolean( 12 );
+                String sourcePath = joinOrgUnit ? rs.getString( 13 ) : null;
+
+                DeflatedDataValue ddv = new DeflatedDataValue( dataElementId, periodId,
+                    organisationUnitId, categoryOptionComboId, attributeOptionComboId,
+                    value, storedBy, created, lastUpdated, comment, followup, deleted );
+
+                ddv.setSourcePath( sourcePath );
+
+                if ( params.hasBlockingQueue() )
                 {
-                    return result; // Abort
+                    if ( !addToBlockingQueue( params.getBlockingQueue(), ddv ) )
+                    {
+                        return false; // Abort
+                    }
+                }
+                else
+                {
+                    result.add( ddv );
                 }
             }
-            else
+
+            if ( params.hasBlockingQueue() )
             {
-                result.add( ddv );
+                addToBlockingQueue( params.getBlockingQueue(), END_OF_DDV_DATA );
             }
-        }
 
-        if ( params.hasBlockingQueue() )
-        {
-            addToBlockingQueue( params.getBlockingQueue(), END_OF_DDV_DATA );
-        }
+            return true;
+        } );
 
         log.debug( result.size() + " DeflatedDataValues returned from: " + sql );
 
@@ -558,6 +564,22 @@ public class HibernateDataValueStore extends HibernateGenericStore<DataValue>
                 .intValue();
     }
 
+    @Override
+    public SetMap<Long, String> getDataElementUidsByOrgUnitLastUpdatedAfter( Date lastUpdated )
+    {
+        final String sql = "select distinct dv.sourceid, de.uid from datavalue dv " +
+            "inner join dataelement de on dv.dataelementid = de.dataelementid " +
+            "where dv.lastupdated >= ?";
+
+        SetMap<Long, String> map = new SetMap<>();
+
+        jdbcTemplate.query( sql, rs -> {
+            map.putValue( rs.getLong( 1 ), rs.getString( 2 ) );
+        }, lastUpdated );
+
+        return map;
+    }
+
     @Override
     public boolean dataValueExists( CategoryCombo combo )
     {
@@ -36,9 +36,12 @@ import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import lombok.AllArgsConstructor;
 
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.query.Query;
@@ -52,6 +55,7 @@ import org.hisp.dhis.security.acl.AclService;
 import org.hisp.dhis.user.CurrentUserService;
 import org.hisp.dhis.user.UserService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -71,6 +75,12 @@ public class DefaultGistService implements GistService, GistBuilder.GistBuilderS
      */
     private static final String NOW_PARAMETER_VALUE = "now";
 
+    /**
+     * Number of rows fetched from the database per round trip when streaming
+     * results.
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     private final SessionFactory sessionFactory;
 
     private final SchemaService schemaService;
@@ -109,6 +119,40 @@ public class DefaultGistService implements GistService, GistBuilder.GistBuilderS
         return rows;
     }
 
+    @Override
+    @Transactional( readOnly = true )
+    public void gist( GistQuery query, Consumer<Object[]> rowConsumer )
+    {
+        GistAccessControl access = createGistAccessControl();
+        RelativePropertyContext context = createPropertyContext( query );
+        new GistValidator( query, context, access ).validateQuery();
+        GistBuilder queryBuilder = createFetchBuilder( query, context, access, this );
+        Query<Object[]> fetchQuery = getSession().createQuery( queryBuilder.buildFetchHQL(), Object[].class );
+        queryBuilder.addFetchParameters( fetchQuery::setParameter, this::parseFilterArgument );
+        if ( !query.isSkipPaging() )
+        {
+            fetchQuery.setMaxResults( Math.max( 1, query.getPageSize() ) );
+            fetchQuery.setFirstResult( query.getPageOffset() );
+        }
+        fetchQuery.setFetchSize( STREAM_FETCH_SIZE );
+        fetchQuery.setReadOnly( true );
+        fetchQuery.setCacheable( false );
+        ScrollableResults rows = fetchQuery.scroll( ScrollMode.FORWARD_ONLY );
+        try
+        {
+            while ( rows.next() )
+            {
+                Object[] row = rows.get();
+                queryBuilder.transform( row );
+                rowConsumer.accept( row );
+            }
+        }
+        finally
+        {
+            rows.close();
+        }
+    }
+
     @Override
     public GistPager pager( GistQuery query, List<?> rows, Map<String, String[]> params )
     {
@@ -264,10 +264,15 @@ final class GistBuilder
         }
         for ( Object[] row : rows )
         {
-            for ( Consumer<Object[]> transformer : fieldResultTransformers )
-            {
-                transformer.accept( row );
-            }
+            transform( row );
+        }
+    }
+
+    public void transform( Object[] row )
+    {
+        for ( Consumer<Object[]> transformer : fieldResultTransformers )
+        {
+            transformer.accept( row );
         }
     }
 
@@ -150,6 +150,14 @@ public final class GistQuery
     @JsonProperty
     private final boolean headless;
 
+    /**
+     * Return all matches ignoring {@link #pageOffset} and {@link #pageSize}.
+     * Only honoured when the result is streamed (CSV and NDJSON). Default
+     * false.
+     */
+    @JsonProperty
+    private final boolean skipPaging;
+
     /**
      * Use OR instead of AND between filters so that any match for one of the
      * filters is a match. Default false.
@@ -231,6 +239,7 @@ public final class GistQuery
             .total( params.getBoolean( "total", false ) )
             .absoluteUrls( params.getBoolean( "absoluteUrls", false ) )
             .headless( params.getBoolean( "headless", false ) )
+            .skipPaging( !params.getBoolean( "paging", true ) )
             .describe( params.getBoolean( "describe", false ) )
             .references( params.getBoolean( "references", true ) )
             .anyFilter( params.getString( "rootJunction", "AND" ).equalsIgnoreCase( "OR" ) )
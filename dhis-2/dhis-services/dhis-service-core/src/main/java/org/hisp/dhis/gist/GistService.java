@@ -29,6 +29,7 @@ package org.hisp.dhis.gist;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * The GIST API gives convenient access to (potentially large) collections. Good
@@ -68,6 +69,21 @@ public interface GistService
      */
     List<?> gist( GistQuery query );
 
+    /**
+     * Run a gist query and pass each matching row to the consumer as soon as
+     * it is read from the database. Unlike {@link #gist(GistQuery)} rows are
+     * not collected in memory, which allows to export large collections.
+     *
+     * Paging is applied unless {@link GistQuery#isSkipPaging()}. To continue
+     * an export in chunks without offset paging order by {@code id} and filter
+     * with {@code id:gt:<last id of previous chunk>}.
+     *
+     * @param query query to run and which has been {@link #plan(GistQuery)}ned
+     * @param rowConsumer receives the values for {@link GistQuery#getFields()}
+     *        of each matching entry
+     */
+    void gist( GistQuery query, Consumer<Object[]> rowConsumer );
+
     /**
      * Create a pager for the given {@link GistQuery}, its results rows and the
      * request params.
@@ -39,7 +39,6 @@ import org.hisp.dhis.commons.jackson.jsonpatch.JsonPatchException;
 import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -109,7 +108,7 @@ public class JsonPatchManager
 
             if ( property.isCollection() )
             {
-                Object data = ReflectionUtils.invokeMethod( object, property.getGetterMethod() );
+                Object data = property.getValue( object );
 
                 Collection<?> collection = (Collection<?>) data;
 
@@ -513,23 +513,7 @@ public class DefaultOrganisationUnitService
             ancestorsUid.add( ancestor.getUid() );
         }
 
-        OrganisationUnit unit = getOrganisationUnit( organisationUnit.getUid() );
-        if ( unit == null )
-        {
-            unit = organisationUnit;
-        }
-
-        while ( unit != null )
-        {
-            if ( ancestorsUid.contains( unit.getUid() ) )
-            {
-                return true;
-            }
-
-            unit = unit.getParent();
-        }
-
-        return false;
+        return isDescendant( organisationUnit, ancestorsUid );
     }
 
     @Transactional( readOnly = true )
@@ -541,11 +525,35 @@ public class DefaultOrganisationUnitService
             return false;
         }
 
-        OrganisationUnit unit = getOrganisationUnit( organisationUnit.getUid() );
+        return isDescendant( organisationUnit, Set.of( ancestor.getUid() ) );
+    }
+
+    /**
+     * Indicates whether the given organisation unit is equal to or a
+     * descendant of any of the organisation units with the given UIDs. The
+     * stored path is used when available, which avoids loading each ancestor
+     * of the parent graph. Falls back to traversing the parent graph for
+     * organisation units which have not been persisted yet.
+     */
+    private boolean isDescendant( OrganisationUnit organisationUnit, Set<String> ancestorsUid )
+    {
+        OrganisationUnit unit = organisationUnit;
+
+        if ( !unit.hasStoredPath() )
+        {
+            OrganisationUnit persisted = getOrganisationUnit( organisationUnit.getUid() );
+            unit = persisted != null ? persisted : organisationUnit;
+        }
+
+        if ( unit.hasStoredPath() )
+        {
+            return ancestorsUid.contains( unit.getUid() )
+                || unit.getAncestorUids( null ).stream().anyMatch( ancestorsUid::contains );
+        }
 
         while ( unit != null )
         {
-            if ( ancestor.equals( unit ) )
+            if ( ancestorsUid.contains( unit.getUid() ) )
             {
                 return true;
             }
@@ -554,7 +562,6 @@ public class DefaultOrganisationUnitService
         }
 
         return false;
-
     }
 
     @Override
@@ -170,74 +170,21 @@ public class DefaultPreheatService implements PreheatService
 
         if ( PreheatIdentifier.UID == params.getPreheatIdentifier() || hasOnlyUIDClasses )
         {
-            for ( Class<? extends IdentifiableObject> klass : uidMap.keySet() )
-            {
-                List<List<String>> identifiers = Lists.partition( Lists.newArrayList( uidMap.get( klass ) ),
-                    20000 );
-
-                if ( !identifiers.isEmpty() )
-                {
-                    for ( List<String> ids : identifiers )
-                    {
-                        Query query = Query.from( schemaService.getDynamicSchema( klass ) );
-                        query.setUser( preheat.getUser() );
-                        query.add( Restrictions.in( "id", ids ) );
-                        List<? extends IdentifiableObject> objects = queryService.query( query );
-                        preheat.put( PreheatIdentifier.UID, objects );
-                    }
-                }
-            }
+            uidMap.forEach( ( klass, ids ) -> preheatByIdentifier( preheat, PreheatIdentifier.UID, klass, ids ) );
         }
 
         if ( codeMap != null && (PreheatIdentifier.CODE == params.getPreheatIdentifier()) )
         {
-            for ( Class<? extends IdentifiableObject> klass : codeMap.keySet() )
-            {
-                List<List<String>> identifiers = Lists.partition( Lists.newArrayList( codeMap.get( klass ) ),
-                    20000 );
+            codeMap.forEach( ( klass, codes ) -> preheatByIdentifier( preheat, PreheatIdentifier.CODE, klass, codes ) );
 
-                if ( !identifiers.isEmpty() )
-                {
-                    for ( List<String> ids : identifiers )
-                    {
-                        Query query = Query.from( schemaService.getDynamicSchema( klass ) );
-                        query.setUser( preheat.getUser() );
-                        query.add( Restrictions.in( "code", ids ) );
-                        List<? extends IdentifiableObject> objects = queryService.query( query );
-                        preheat.put( PreheatIdentifier.CODE, objects );
-                    }
-                }
-            }
-
-            if ( uidMap.containsKey( User.class ) && !uidMap.get( User.class ).isEmpty() )
+            if ( uidMap.containsKey( User.class ) )
             {
-                List<List<String>> identifiers = Lists.partition( Lists.newArrayList( uidMap.get( User.class ) ),
-                    20000 );
-
-                for ( List<String> ids : identifiers )
-                {
-                    Query query = Query.from( schemaService.getDynamicSchema( User.class ) );
-                    query.setUser( preheat.getUser() );
-                    query.add( Restrictions.in( "id", ids ) );
-                    List<? extends IdentifiableObject> objects = queryService.query( query );
-                    preheat.put( PreheatIdentifier.UID, objects );
-                }
+                preheatByIdentifier( preheat, PreheatIdentifier.UID, User.class, uidMap.get( User.class ) );
             }
 
-            if ( uidMap.containsKey( UserRole.class )
-                && !uidMap.get( UserRole.class ).isEmpty() )
+            if ( uidMap.containsKey( UserRole.class ) )
             {
-                List<List<String>> identifiers = Lists
-                    .partition( Lists.newArrayList( uidMap.get( UserRole.class ) ), 20000 );
-
-                for ( List<String> ids : identifiers )
-                {
-                    Query query = Query.from( schemaService.getDynamicSchema( UserRole.class ) );
-                    query.setUser( preheat.getUser() );
-                    query.add( Restrictions.in( "id", ids ) );
-                    List<? extends IdentifiableObject> objects = queryService.query( query );
-                    preheat.put( PreheatIdentifier.UID, objects );
-                }
+                preheatByIdentifier( preheat, PreheatIdentifier.UID, UserRole.class, uidMap.get( UserRole.class ) );
             }
         }
 
@@ -283,7 +230,8 @@ public class DefaultPreheatService implements PreheatService
         handleAttributes( params.getObjects(), preheat );
         handleSharing( params, preheat );
 
-        periodStore.getAll().forEach( period -> preheat.getPeriodMap().put( period.getName(), period ) );
+        // periods are looked up lazily when references are connected, see
+        // getPersistedObject
         periodStore.getAllPeriodTypes()
             .forEach( periodType -> preheat.getPeriodTypeMap().put( periodType.getName(), periodType ) );
 
@@ -293,6 +241,30 @@ public class DefaultPreheatService implements PreheatService
         return preheat;
     }
 
+    /**
+     * Loads the objects of the given class matching the given identifiers
+     * into the preheat. Identifiers already present in the preheat are not
+     * queried again, as {@link Preheat#put} would not replace them anyway.
+     */
+    private void preheatByIdentifier( Preheat preheat, PreheatIdentifier identifier,
+        Class<? extends IdentifiableObject> klass, Set<String> keys )
+    {
+        List<String> missingKeys = keys.stream()
+            .filter( key -> !preheat.containsKey( identifier, klass, key ) )
+            .collect( Collectors.toList() );
+
+        String property = PreheatIdentifier.UID == identifier ? "id" : "code";
+
+        for ( List<String> ids : Lists.partition( missingKeys, 20000 ) )
+        {
+            Query query = Query.from( schemaService.getDynamicSchema( klass ) );
+            query.setUser( preheat.getUser() );
+            query.add( Restrictions.in( property, ids ) );
+            List<? extends IdentifiableObject> objects = queryService.query( query );
+            preheat.put( identifier, objects );
+        }
+    }
+
     private void handleSharing( PreheatParams params, Preheat preheat )
     {
         params.getObjects().forEach( ( klass, list ) -> list.forEach( object -> {
@@ -533,7 +505,7 @@ public class DefaultPreheatService implements PreheatService
                         if ( !codeMap.containsKey( itemKlass ) )
                             codeMap.put( itemKlass, new HashSet<>() );
 
-                        Object reference = ReflectionUtils.invokeMethod( object, p.getGetterMethod() );
+                        Object reference = p.getValue( object );
 
                         if ( reference != null )
                         {
@@ -543,8 +515,7 @@ public class DefaultPreheatService implements PreheatService
                     }
                     else
                     {
-                        Collection<IdentifiableObject> reference = ReflectionUtils.invokeMethod( object,
-                            p.getGetterMethod() );
+                        Collection<IdentifiableObject> reference = p.getValue( object );
 
                         if ( reference != null )
                         {
@@ -720,7 +691,7 @@ public class DefaultPreheatService implements PreheatService
                 properties.forEach( p -> {
                     if ( !p.isCollection() )
                     {
-                        IdentifiableObject reference = ReflectionUtils.invokeMethod( object, p.getGetterMethod() );
+                        IdentifiableObject reference = p.getValue( object );
 
                         if ( reference != null )
                         {
@@ -739,8 +710,7 @@ public class DefaultPreheatService implements PreheatService
                     {
                         Collection<IdentifiableObject> refObjects = ReflectionUtils
                             .newCollectionInstance( p.getKlass() );
-                        Collection<IdentifiableObject> references = ReflectionUtils.invokeMethod( object,
-                            p.getGetterMethod() );
+                        Collection<IdentifiableObject> references = p.getValue( object );
 
                         if ( references != null )
                         {
@@ -801,7 +771,7 @@ public class DefaultPreheatService implements PreheatService
                     }
 
                     objects
-                        .forEach( o -> list.addAll( ReflectionUtils.invokeMethod( o, property.getGetterMethod() ) ) );
+                        .forEach( o -> list.addAll( property.getValue( o ) ) );
                     targets.put( property.getItemKlass(), list );
                 }
                 else
@@ -813,7 +783,7 @@ public class DefaultPreheatService implements PreheatService
                         list.addAll( targets.get( property.getKlass() ) );
                     }
 
-                    objects.forEach( o -> list.add( ReflectionUtils.invokeMethod( o, property.getGetterMethod() ) ) );
+                    objects.forEach( o -> list.add( property.getValue( o ) ) );
                     targets.put( property.getKlass(), list );
                 }
             }
@@ -867,25 +837,24 @@ public class DefaultPreheatService implements PreheatService
 
             if ( !property.isCollection() )
             {
-                IdentifiableObject refObject = ReflectionUtils.invokeMethod( object, property.getGetterMethod() );
+                IdentifiableObject refObject = property.getValue( object );
                 IdentifiableObject ref = getPersistedObject( preheat, identifier, refObject );
 
                 ref = connectDefaults( preheat, property, object, refObject, ref );
 
                 if ( ref != null && ref.getId() == 0 )
                 {
-                    ReflectionUtils.invokeMethod( object, property.getSetterMethod(), (Object) null );
+                    property.setValue( object, null );
                 }
                 else
                 {
-                    ReflectionUtils.invokeMethod( object, property.getSetterMethod(), ref );
+                    property.setValue( object, ref );
                 }
             }
             else
             {
                 Collection<IdentifiableObject> objects = ReflectionUtils.newCollectionInstance( property.getKlass() );
-                Collection<IdentifiableObject> refObjects = ReflectionUtils.invokeMethod( object,
-                    property.getGetterMethod() );
+                Collection<IdentifiableObject> refObjects = property.getValue( object );
 
                 for ( IdentifiableObject refObject : refObjects )
                 {
@@ -894,7 +863,7 @@ public class DefaultPreheatService implements PreheatService
                         objects.add( ref );
                 }
 
-                ReflectionUtils.invokeMethod( object, property.getSetterMethod(), objects );
+                property.setValue( object, objects );
             }
         }
     }
@@ -982,7 +951,7 @@ public class DefaultPreheatService implements PreheatService
             uniqueProperties.forEach( property -> {
                 if ( !map.containsKey( property.getName() ) )
                     map.put( property.getName(), new HashMap<>() );
-                Object value = ReflectionUtils.invokeMethod( object, property.getGetterMethod() );
+                Object value = property.getValue( object );
                 if ( value != null )
                     map.get( property.getName() ).put( value, identifier.getIdentifier( object ) );
             } );
@@ -45,7 +45,6 @@ import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
 import org.hisp.dhis.security.acl.AclService;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.hisp.dhis.user.CurrentUserService;
 import org.springframework.stereotype.Component;
 
@@ -132,6 +131,12 @@ public class InMemoryQueryEngine<T extends IdentifiableObject>
 
     private boolean test( Query query, T object )
     {
+        // a root junction without criterions does not restrict anything
+        if ( query.getCriterions().isEmpty() )
+        {
+            return true;
+        }
+
         List<Boolean> testResults = new ArrayList<>();
 
         for ( Criterion criterion : query.getCriterions() )
@@ -330,6 +335,6 @@ public class InMemoryQueryEngine<T extends IdentifiableObject>
             return items;
         }
 
-        return ReflectionUtils.invokeMethod( object, property.getGetterMethod() );
+        return property.getValue( object );
     }
 }
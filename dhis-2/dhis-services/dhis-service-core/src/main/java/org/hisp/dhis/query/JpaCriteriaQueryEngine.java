@@ -136,7 +136,10 @@ public class JpaCriteriaQueryEngine<T extends IdentifiableObject>
             return typedQuery.getResultList();
         }
 
-        Predicate predicate = buildPredicates( builder, root, query );
+        // sharing must hold regardless of the root junction type of the query
+        Predicate predicate = builder.conjunction();
+
+        predicate.getExpressions().add( buildPredicates( builder, root, query ) );
 
         predicate.getExpressions().addAll( store
             .getSharingPredicates( builder, query.getUser() ).stream().map( t -> t.apply( root ) )
@@ -199,7 +202,10 @@ public class JpaCriteriaQueryEngine<T extends IdentifiableObject>
 
         criteriaQuery.select( builder.count( root ) );
 
-        Predicate predicate = buildPredicates( builder, root, query );
+        // sharing must hold regardless of the root junction type of the query
+        Predicate predicate = builder.conjunction();
+
+        predicate.getExpressions().add( buildPredicates( builder, root, query ) );
 
         predicate.getExpressions().addAll( store
             .getSharingPredicates( builder, query.getUser() ).stream().map( t -> t.apply( root ) )
@@ -241,7 +247,9 @@ public class JpaCriteriaQueryEngine<T extends IdentifiableObject>
 
     private <Y> Predicate buildPredicates( CriteriaBuilder builder, Root<Y> root, Query query )
     {
-        Predicate junction = getJpaJunction( builder, query.getRootJunctionType() );
+        // an empty disjunction would match nothing, so fall back to AND
+        Predicate junction = getJpaJunction( builder,
+            query.getCriterions().isEmpty() ? Junction.Type.AND : query.getRootJunctionType() );
 
         for ( org.hisp.dhis.query.Criterion criterion : query.getCriterions() )
         {
@@ -341,7 +349,7 @@ public class JpaCriteriaQueryEngine<T extends IdentifiableObject>
 
             for ( org.hisp.dhis.query.Criterion c : ((Junction) criterion).getCriterions() )
             {
-                addJunction( builder, root, junction, c );
+                addJunction( builder, root, j, c );
             }
         }
     }
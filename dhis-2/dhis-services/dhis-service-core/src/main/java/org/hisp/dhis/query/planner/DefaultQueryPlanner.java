@@ -31,18 +31,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
 
 import lombok.AllArgsConstructor;
 
-import org.hisp.dhis.query.Conjunction;
 import org.hisp.dhis.query.Criterion;
-import org.hisp.dhis.query.Disjunction;
 import org.hisp.dhis.query.Junction;
-import org.hisp.dhis.query.Order;
 import org.hisp.dhis.query.Query;
 import org.hisp.dhis.query.Restriction;
 import org.hisp.dhis.schema.Property;
@@ -72,7 +68,10 @@ public class DefaultQueryPlanner implements QueryPlanner
         Junction.Type junctionType = query.getCriterions().size() <= 1 ? Junction.Type.AND
             : query.getRootJunctionType();
 
-        if ( (!isFilterOnPersistedFieldOnly( query ) || Junction.Type.OR == junctionType) && !persistedOnly )
+        // an OR root junction can only be split when every criterion can be
+        // translated, otherwise the whole schema has to be filtered in-memory
+        if ( Junction.Type.OR == junctionType && !persistedOnly
+            && !isPersistedCriterions( query.getSchema(), query.getCriterions(), 0 ) )
         {
             return QueryPlan.builder()
                 .persistedQuery( Query.from( query.getSchema() ).setPlannedQuery( true ) )
@@ -84,9 +83,16 @@ public class DefaultQueryPlanner implements QueryPlanner
 
         Query pQuery = getQuery( npQuery, persistedOnly ).setUser( query.getUser() ).setPlannedQuery( true );
 
-        // if there are any non persisted criterions left, we leave the paging
-        // to the in-memory engine
-        if ( !npQuery.getCriterions().isEmpty() )
+        // all criterions of an OR root went to the database, an empty OR
+        // would otherwise reject every object in the in-memory engine
+        if ( Junction.Type.OR == npQuery.getRootJunctionType() && npQuery.getCriterions().isEmpty() )
+        {
+            npQuery = toConjunctionQuery( npQuery );
+        }
+
+        // if there are any non persisted criterions or orders left, we leave
+        // the paging to the in-memory engine
+        if ( !npQuery.isEmpty() )
         {
             pQuery.setSkipPaging( true );
         }
@@ -204,6 +210,16 @@ public class DefaultQueryPlanner implements QueryPlanner
     }
 
     /**
+     * Moves all criterions that can be translated into a JPA criteria query
+     * from the given query into a new persisted query. Restrictions are moved
+     * when they are on a persisted property of the schema itself, junctions
+     * (of any nesting) are moved as a whole when all their restrictions are.
+     * Inside junctions restrictions may also go through one associated object
+     * (like dataSets.id), the aliases of which are added to the persisted
+     * query. What remains in the given query is left to the in-memory engine;
+     * these are filters on non-persisted properties (like displayName or
+     * access) and other filters on properties of associated objects.
+     *
      * @param query Query
      * @return Query instance
      */
@@ -216,32 +232,16 @@ public class DefaultQueryPlanner implements QueryPlanner
         {
             Criterion criterion = iterator.next();
 
-            if ( criterion instanceof Junction )
+            if ( isPersistedCriterion( query.getSchema(), criterion, 0 ) )
             {
-                Junction junction = handleJunction( pQuery, (Junction) criterion, persistedOnly );
-
-                if ( !junction.getCriterions().isEmpty() )
-                {
-                    pQuery.getAliases().addAll( junction.getAliases() );
-                    pQuery.add( junction );
-                }
-
-                if ( ((Junction) criterion).getCriterions().isEmpty() )
-                {
-                    iterator.remove();
-                }
+                addAliases( pQuery, criterion );
+                pQuery.getCriterions().add( criterion );
+                iterator.remove();
             }
-            else if ( criterion instanceof Restriction )
+            else if ( persistedOnly && criterion instanceof Junction )
             {
-                Restriction restriction = (Restriction) criterion;
-                restriction.setQueryPath( getQueryPath( query.getSchema(), restriction.getPath() ) );
-
-                if ( restriction.getQueryPath().isPersisted() && !restriction.getQueryPath().haveAlias() )
-                {
-                    pQuery.getAliases().addAll( Arrays.asList( ((Restriction) criterion).getQueryPath().getAlias() ) );
-                    pQuery.getCriterions().add( criterion );
-                    iterator.remove();
-                }
+                throw new RuntimeException( "Junction " + criterion +
+                    " is not fully persisted, unable to build persisted only query plan." );
             }
         }
 
@@ -254,109 +254,77 @@ public class DefaultQueryPlanner implements QueryPlanner
         return pQuery;
     }
 
-    private Junction handleJunction( Query query, Junction queryJunction, boolean persistedOnly )
+    /**
+     * Copies the given query without criterions into a query with an AND root
+     * junction, keeping orders, paging and objects.
+     *
+     * @param query Query
+     * @return Query instance
+     */
+    private Query toConjunctionQuery( Query query )
     {
-        Iterator<Criterion> iterator = queryJunction.getCriterions().iterator();
-        Junction criteriaJunction = queryJunction instanceof Disjunction ? new Disjunction( query.getSchema() )
-            : new Conjunction( query.getSchema() );
-
-        while ( iterator.hasNext() )
-        {
-            Criterion criterion = iterator.next();
-
-            if ( criterion instanceof Junction )
-            {
-                Junction junction = handleJunction( query, (Junction) criterion, persistedOnly );
-
-                if ( !junction.getCriterions().isEmpty() )
-                {
-                    criteriaJunction.getAliases().addAll( junction.getAliases() );
-                    criteriaJunction.add( junction );
-                }
-
-                if ( ((Junction) criterion).getCriterions().isEmpty() )
-                {
-                    iterator.remove();
-                }
-            }
-            else if ( criterion instanceof Restriction )
-            {
-                Restriction restriction = (Restriction) criterion;
-                restriction.setQueryPath( getQueryPath( query.getSchema(), restriction.getPath() ) );
-
-                if ( restriction.getQueryPath().isPersisted() && !restriction.getQueryPath().haveAlias( 1 ) )
-                {
-                    criteriaJunction.getAliases()
-                        .addAll( Arrays.asList( ((Restriction) criterion).getQueryPath().getAlias() ) );
-                    criteriaJunction.getCriterions().add( criterion );
-                    iterator.remove();
-                }
-                else if ( persistedOnly )
-                {
-                    throw new RuntimeException( "Path " + restriction.getQueryPath().getPath() +
-                        " is not fully persisted, unable to build persisted only query plan." );
-                }
-            }
-        }
+        Query clone = Query.from( query.getSchema(), Junction.Type.AND );
+        clone.setUser( query.getUser() );
+        clone.setLocale( query.getLocale() );
+        clone.addOrders( query.getOrders() );
+        clone.setFirstResult( query.getFirstResult() );
+        clone.setMaxResults( query.getMaxResults() );
+        clone.setObjects( query.getObjects() );
+
+        return clone.setPlannedQuery( true );
+    }
 
-        return criteriaJunction;
+    private boolean isPersistedCriterions( Schema schema, List<Criterion> criterions, int maxAliases )
+    {
+        return criterions.stream().allMatch( criterion -> isPersistedCriterion( schema, criterion, maxAliases ) );
     }
 
     /**
-     * Check if all the criteria for the given query are associated to
-     * "persisted" properties
+     * Checks if the given criterion can be translated into a JPA criteria
+     * query, i.e. if it is a restriction on a persisted property of the schema
+     * itself or a junction consisting only of such restrictions or of
+     * restrictions going through one associated object. The query path of
+     * restrictions is resolved as a side effect.
      *
-     * @param query a {@see Query} object
-     * @return true, if all criteria are on persisted properties
+     * @param schema the schema of the query
+     * @param criterion the criterion to check
+     * @param maxAliases the number of aliases a restriction may have
+     * @return true if the criterion can be handled by the database
      */
-    private boolean isFilterOnPersistedFieldOnly( Query query )
+    private boolean isPersistedCriterion( Schema schema, Criterion criterion, int maxAliases )
     {
-        Set<String> persistedFields = query.getSchema().getPersistedProperties().keySet();
-        if ( nonPersistedFieldExistsInCriterions( persistedFields, query.getCriterions() ) )
+        if ( criterion instanceof Junction )
         {
-            return false;
+            return isPersistedCriterions( schema, ((Junction) criterion).getCriterions(), 1 );
         }
 
-        for ( Order order : query.getOrders() )
+        if ( criterion instanceof Restriction )
         {
+            Restriction restriction = (Restriction) criterion;
+            restriction.setQueryPath( getQueryPath( schema, restriction.getPath() ) );
 
-            if ( !persistedFields.contains( order.getProperty().getName() ) )
-            {
-                return false;
-            }
+            return restriction.getQueryPath().isPersisted() && !restriction.getQueryPath().haveAlias( maxAliases );
         }
-        return true;
+
+        return false;
     }
 
     /**
-     * Recursive function that checks if any of the criterions or subcriterions
-     * are associated with fields that are not persisted.
+     * Adds the aliases of all restrictions of the given criterion to the
+     * query.
      *
-     * @param persistedFields The set of persistedFields in the schema
-     * @param criterions List of criterions
-     * @return true if there is any non persisted field in any of the criteria
-     *         at any level. false otherwise.
+     * @param query the query
+     * @param criterion the criterion
      */
-    private boolean nonPersistedFieldExistsInCriterions( Set<String> persistedFields, List<Criterion> criterions )
+    private void addAliases( Query query, Criterion criterion )
     {
-        for ( Criterion criterion : criterions )
+        if ( criterion instanceof Junction )
         {
-            if ( criterion instanceof Restriction )
-            {
-                Restriction restriction = (Restriction) criterion;
-                if ( !persistedFields.contains( restriction.getPath() ) )
-                {
-                    return true;
-                }
-            }
-            else if ( criterion instanceof Junction )
-            {
-                if ( nonPersistedFieldExistsInCriterions( persistedFields, ((Junction) criterion).getCriterions() ) )
-                {
-                    return true;
-                }
-            }
+            ((Junction) criterion).getCriterions().forEach( c -> addAliases( query, c ) );
+        }
+        else if ( criterion instanceof Restriction )
+        {
+            query.getAliases().addAll( Arrays.asList( ((Restriction) criterion).getQueryPath().getAlias() ) );
         }
-        return false;
     }
 }
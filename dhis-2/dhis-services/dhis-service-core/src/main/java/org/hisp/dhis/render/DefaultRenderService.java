@@ -42,6 +42,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.apache.commons.lang3.StringUtils;
 import org.hisp.dhis.common.IdentifiableObject;
+import org.hisp.dhis.deletedobject.DeletedObject;
 import org.hisp.dhis.metadata.version.MetadataVersion;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
@@ -201,29 +202,29 @@ public class DefaultRenderService
     }
 
     @Override
-    @SuppressWarnings( "unchecked" )
     public Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> fromMetadata( InputStream inputStream,
         RenderFormat format )
         throws IOException
     {
-        Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> map = new HashMap<>();
-
-        ObjectMapper mapper;
-
         if ( RenderFormat.JSON == format )
         {
-            mapper = jsonMapper;
+            return fromMetadata( jsonMapper.readTree( inputStream ) );
         }
         else if ( RenderFormat.XML == format )
         {
             throw new IllegalArgumentException( "XML format is not supported." );
         }
-        else
-        {
-            return map;
-        }
 
-        JsonNode rootNode = mapper.readTree( inputStream );
+        return new HashMap<>();
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> fromMetadata( JsonNode rootNode )
+        throws IOException
+    {
+        Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> map = new HashMap<>();
+
         Iterator<String> fieldNames = rootNode.fieldNames();
 
         while ( fieldNames.hasNext() )
@@ -248,7 +249,7 @@ public class DefaultRenderService
 
             for ( JsonNode item : node )
             {
-                IdentifiableObject value = mapper.treeToValue( item,
+                IdentifiableObject value = jsonMapper.treeToValue( item,
                     (Class<? extends IdentifiableObject>) schema.getKlass() );
                 if ( value != null )
                     collection.add( value );
@@ -260,6 +261,23 @@ public class DefaultRenderService
         return map;
     }
 
+    @Override
+    public List<DeletedObject> fromDeletedObjects( JsonNode rootNode )
+        throws IOException
+    {
+        JsonNode deletedObjectsNode = rootNode.get( "deletedObjects" );
+
+        if ( !(deletedObjectsNode instanceof ArrayNode) )
+        {
+            return new ArrayList<>();
+        }
+
+        return jsonMapper.readValue( jsonMapper.treeAsTokens( deletedObjectsNode ),
+            new TypeReference<List<DeletedObject>>()
+            {
+            } );
+    }
+
     @Override
     public List<MetadataVersion> fromMetadataVersion( InputStream versions, RenderFormat format )
         throws IOException
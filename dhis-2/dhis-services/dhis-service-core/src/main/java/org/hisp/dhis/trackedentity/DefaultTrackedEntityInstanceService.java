@@ -636,6 +636,11 @@ public class DefaultTrackedEntityInstanceService
             violation = "Duration is not valid: " + params.getLastUpdatedDuration();
         }
 
+        if ( params.isKeysetPaging() && params.getOrders() != null && !params.getOrders().isEmpty() )
+        {
+            violation = "Paging with pageAfter is only supported for the default order";
+        }
+
         if ( violation != null )
         {
             log.warn( "Validation failed: " + violation );
@@ -72,6 +72,7 @@ import org.hisp.dhis.common.DimensionalItemObject;
 import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.common.IllegalQueryException;
 import org.hisp.dhis.common.OrganisationUnitSelectionMode;
+import org.hisp.dhis.common.PageCursor;
 import org.hisp.dhis.common.QueryFilter;
 import org.hisp.dhis.common.QueryItem;
 import org.hisp.dhis.common.QueryOperator;
@@ -141,6 +142,11 @@ public class HibernateTrackedEntityInstanceStore
 
     private static final String UID_VALUE_PAIR_SEPARATOR = ";@//@;";
 
+    /**
+     * Order keyset paging is based on, the same as for events.
+     */
+    private static final String KEYSET_ORDER = "ORDER BY TEI.lastupdated DESC, TEI.trackedentityinstanceid DESC ";
+
     // -------------------------------------------------------------------------
     // Dependencies
     // -------------------------------------------------------------------------
@@ -202,9 +208,26 @@ public class HibernateTrackedEntityInstanceStore
 
         List<Long> ids = new ArrayList<>();
 
+        PageCursor lastCursor = null;
+
         while ( rowSet.next() )
         {
             ids.add( rowSet.getLong( "teiid" ) );
+
+            if ( params.isKeysetPaging() )
+            {
+                lastCursor = new PageCursor( rowSet.getTimestamp( LAST_UPDATED_ID ), rowSet.getLong( "teiid" ) );
+            }
+        }
+
+        if ( params.isKeysetPaging() )
+        {
+            // The page is full, so there might be more instances after the
+            // last fetched one
+
+            params.setNextPageAfter( lastCursor != null && ids.size() >= params.getPageSizeWithDefault()
+                ? lastCursor.toToken()
+                : null );
         }
 
         return ids;
@@ -622,6 +645,19 @@ public class HibernateTrackedEntityInstanceStore
                 .append( "TEI.deleted IS FALSE " );
         }
 
+        PageCursor pageAfter = params.isKeysetPaging() ? PageCursor.fromToken( params.getPageAfter() ) : null;
+
+        if ( pageAfter != null )
+        {
+            trackedEntity
+                .append( whereAnd.whereAnd() )
+                .append( "(TEI.lastupdated, TEI.trackedentityinstanceid) < ('" )
+                .append( pageAfter.getLastUpdated() )
+                .append( "', " )
+                .append( pageAfter.getId() )
+                .append( ") " );
+        }
+
         return trackedEntity.toString();
     }
 
@@ -663,6 +699,11 @@ public class HibernateTrackedEntityInstanceStore
      * to alternatives. A query string (Can be multiple) has to match at least 1
      * attribute value for each attribute we have access to. We use Regex to
      * search, allowing both exact match and with wildcards (EQ or LIKE).
+     * <p>
+     * The condition is written as one disjunct per attribute, each pinned with
+     * an equality on the attribute id. This allows the database to use the
+     * partial trigram indexes (in_gin_teavalue_[attribute id]) created by the
+     * tracker search optimization job, which a single IN list would rule out.
      *
      * @param params
      * @param attributes
@@ -676,26 +717,22 @@ public class HibernateTrackedEntityInstanceStore
         final String anyChar = "\\.*?";
         final String start = params.getQuery().isOperator( QueryOperator.LIKE ) ? anyChar : wordStart;
         final String end = params.getQuery().isOperator( QueryOperator.LIKE ) ? anyChar : wordEnd;
-        SqlHelper orHlp = new SqlHelper( true );
 
         List<Long> itemIds = params.getAttributesAndFilters().stream()
             .map( QueryItem::getItem )
             .map( DimensionalItemObject::getId )
+            .distinct()
             .collect( Collectors.toList() );
 
-        attributes
-            .append( "INNER JOIN trackedentityattributevalue Q " )
-            .append( "ON Q.trackedentityinstanceid = TEI.trackedentityinstanceid " )
-            .append( "AND Q.trackedentityattributeid IN (" )
-            .append( getCommaDelimitedString( itemIds ) )
-            .append( ") AND (" );
+        StringBuilder valueCondition = new StringBuilder();
+        SqlHelper valueOrHlp = new SqlHelper( true );
 
         for ( String queryToken : getTokens( params.getQuery().getFilter() ) )
         {
             final String query = statementBuilder.encode( queryToken, false );
 
-            attributes
-                .append( orHlp.or() )
+            valueCondition
+                .append( valueOrHlp.or() )
                 .append( "lower(Q.value) " )
                 .append( regexp )
                 .append( " '" )
@@ -705,6 +742,24 @@ public class HibernateTrackedEntityInstanceStore
                 .append( SINGLE_QUOTE );
         }
 
+        attributes
+            .append( "INNER JOIN trackedentityattributevalue Q " )
+            .append( "ON Q.trackedentityinstanceid = TEI.trackedentityinstanceid " )
+            .append( "AND (" );
+
+        SqlHelper attributeOrHlp = new SqlHelper( true );
+
+        for ( Long itemId : itemIds )
+        {
+            attributes
+                .append( attributeOrHlp.or() )
+                .append( "(Q.trackedentityattributeid = " )
+                .append( itemId )
+                .append( " AND (" )
+                .append( valueCondition )
+                .append( "))" );
+        }
+
         attributes.append( ")" );
     }
 
@@ -1223,6 +1278,11 @@ public class HibernateTrackedEntityInstanceStore
      */
     private String getQueryOrderBy( boolean innerOrder, TrackedEntityInstanceQueryParams params, boolean isGridQuery )
     {
+        if ( params.isKeysetPaging() )
+        {
+            return KEYSET_ORDER;
+        }
+
         if ( params.getOrders() != null
             && (!isGridQuery || (params.getAttributes() != null && !params.getAttributes().isEmpty())) )
         {
@@ -1361,6 +1421,9 @@ public class HibernateTrackedEntityInstanceStore
         StringBuilder limitOffset = new StringBuilder();
         int limit = params.getMaxTeiLimit();
 
+        // Keyset pages start after the given instance instead of at an offset
+        int offset = params.isKeysetPaging() ? 0 : params.getOffset();
+
         if ( limit == 0 && !params.isPaging() )
         {
             return "";
@@ -1374,7 +1437,7 @@ public class HibernateTrackedEntityInstanceStore
                 .append( SPACE )
                 .append( OFFSET )
                 .append( SPACE )
-                .append( params.getOffset() )
+                .append( offset )
                 .append( SPACE )
                 .toString();
         }
@@ -1387,7 +1450,7 @@ public class HibernateTrackedEntityInstanceStore
                 .append( SPACE )
                 .append( OFFSET )
                 .append( SPACE )
-                .append( params.getOffset() )
+                .append( offset )
                 .append( SPACE )
                 .toString();
         }
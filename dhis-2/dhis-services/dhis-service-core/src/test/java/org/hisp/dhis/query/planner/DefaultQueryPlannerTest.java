@@ -28,16 +28,23 @@
 package org.hisp.dhis.query.planner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
 import java.beans.PropertyDescriptor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.beanutils.PropertyUtils;
 import org.hisp.dhis.attribute.Attribute;
+import org.hisp.dhis.dataset.DataSet;
+import org.hisp.dhis.query.Disjunction;
 import org.hisp.dhis.query.Junction;
+import org.hisp.dhis.query.Order;
 import org.hisp.dhis.query.Query;
+import org.hisp.dhis.query.Restriction;
 import org.hisp.dhis.query.Restrictions;
 import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.Schema;
@@ -181,6 +188,163 @@ class DefaultQueryPlannerTest
         assertEquals( nonPersistedQuery.getRootJunctionType(), Junction.Type.AND );
     }
 
+    @Test
+    void verifyPlanQueryPushesDownOrJunctionOnPersistedFields()
+        throws Exception
+    {
+        Schema schema = createSchema( true );
+
+        Query query = Query.from( schema, Junction.Type.OR );
+        query.setMaxResults( 10 );
+        query.setFirstResult( 20 );
+
+        query.add( Restrictions.eq( "name", "test" ) );
+        query.add( Restrictions.eq( "id", 100 ) );
+
+        QueryPlan queryPlan = subject.planQuery( query, false );
+
+        Query persistedQuery = queryPlan.getPersistedQuery();
+
+        assertEquals( 2, persistedQuery.getCriterions().size() );
+        assertEquals( Junction.Type.OR, persistedQuery.getRootJunctionType() );
+        assertEquals( 20, persistedQuery.getFirstResult().intValue() );
+        assertEquals( 10, persistedQuery.getMaxResults().intValue() );
+
+        assertTrue( queryPlan.getNonPersistedQuery().isEmpty() );
+    }
+
+    @Test
+    void verifyPlanQueryPushesDownOrJunctionWithNonPersistedOrder()
+        throws Exception
+    {
+        Schema schema = createSchema( false );
+
+        Query query = Query.from( schema, Junction.Type.OR );
+        query.setMaxResults( 10 );
+        query.setFirstResult( 20 );
+
+        query.add( Restrictions.eq( "uid", "abc" ) );
+        query.add( Restrictions.eq( "id", 100 ) );
+        query.addOrder( Order.asc( schema.getProperty( "name" ) ) );
+
+        QueryPlan queryPlan = subject.planQuery( query, false );
+
+        Query persistedQuery = queryPlan.getPersistedQuery();
+        assertEquals( 2, persistedQuery.getCriterions().size() );
+        assertEquals( Junction.Type.OR, persistedQuery.getRootJunctionType() );
+        assertTrue( persistedQuery.isSkipPaging() );
+
+        Query nonPersistedQuery = queryPlan.getNonPersistedQuery();
+        assertTrue( nonPersistedQuery.getCriterions().isEmpty() );
+        assertEquals( Junction.Type.AND, nonPersistedQuery.getRootJunctionType() );
+        assertEquals( 1, nonPersistedQuery.getOrders().size() );
+        assertEquals( 20, nonPersistedQuery.getFirstResult().intValue() );
+        assertEquals( 10, nonPersistedQuery.getMaxResults().intValue() );
+        assertTrue( nonPersistedQuery.isPlannedQuery() );
+    }
+
+    @Test
+    void verifyPlanQuerySplitsAndJunctionWithNonPersistedField()
+        throws Exception
+    {
+        Schema schema = createSchema( false );
+
+        Query query = Query.from( schema, Junction.Type.AND );
+        query.setMaxResults( 10 );
+        query.setFirstResult( 20 );
+
+        query.add( Restrictions.eq( "name", "test" ) );
+        query.add( Restrictions.eq( "id", 100 ) );
+
+        QueryPlan queryPlan = subject.planQuery( query, false );
+
+        Query persistedQuery = queryPlan.getPersistedQuery();
+
+        assertEquals( 1, persistedQuery.getCriterions().size() );
+        assertEquals( 0, persistedQuery.getFirstResult().intValue() );
+        assertEquals( Integer.MAX_VALUE, persistedQuery.getMaxResults().intValue() );
+
+        Query nonPersistedQuery = queryPlan.getNonPersistedQuery();
+        assertEquals( 1, nonPersistedQuery.getCriterions().size() );
+        assertEquals( 20, nonPersistedQuery.getFirstResult().intValue() );
+        assertEquals( 10, nonPersistedQuery.getMaxResults().intValue() );
+    }
+
+    @Test
+    void verifyPlanQueryKeepsNestedJunctionWithNonPersistedFieldInMemory()
+        throws Exception
+    {
+        Schema schema = createSchema( false );
+
+        Query query = Query.from( schema, Junction.Type.AND );
+        query.add( Restrictions.eq( "uid", "abc" ) );
+
+        Disjunction persisted = query.addDisjunction();
+        persisted.add( Restrictions.eq( "id", 100 ) );
+        persisted.add( Restrictions.eq( "id", 200 ) );
+
+        Disjunction mixed = query.addDisjunction();
+        mixed.add( Restrictions.eq( "name", "test" ) );
+        mixed.add( Restrictions.eq( "id", 300 ) );
+
+        QueryPlan queryPlan = subject.planQuery( query, false );
+
+        Query persistedQuery = queryPlan.getPersistedQuery();
+        assertEquals( 2, persistedQuery.getCriterions().size() );
+        assertSame( persisted, persistedQuery.getCriterions().get( 1 ) );
+
+        Query nonPersistedQuery = queryPlan.getNonPersistedQuery();
+        assertEquals( 1, nonPersistedQuery.getCriterions().size() );
+        assertSame( mixed, nonPersistedQuery.getCriterions().get( 0 ) );
+        assertEquals( 2, mixed.getCriterions().size() );
+    }
+
+    @Test
+    void verifyPlanQueryPushesDownOrJunctionOverAssociationPath()
+        throws Exception
+    {
+        Schema schema = createSchema( true );
+        Property dataSets = new Property( Set.class );
+        dataSets.setName( "dataSets" );
+        dataSets.setFieldName( "dataSets" );
+        dataSets.setCollection( true );
+        dataSets.setItemKlass( DataSet.class );
+        dataSets.setPersisted( true );
+        schema.getPropertyMap().put( "dataSets", dataSets );
+
+        when( schemaService.getDynamicSchema( DataSet.class ) ).thenReturn( createSchema( true ) );
+
+        Query query = Query.from( schema, Junction.Type.AND );
+        query.add( Restrictions.eq( "uid", "abc" ) );
+
+        Disjunction disjunction = query.addDisjunction();
+        disjunction.add( Restrictions.eq( "dataSets.id", 100 ) );
+        disjunction.add( Restrictions.eq( "dataSets.id", 200 ) );
+
+        QueryPlan queryPlan = subject.planQuery( query, true );
+
+        Query persistedQuery = queryPlan.getPersistedQuery();
+        assertEquals( 2, persistedQuery.getCriterions().size() );
+        assertSame( disjunction, persistedQuery.getCriterions().get( 1 ) );
+        assertEquals( Set.of( "dataSets" ), persistedQuery.getAliases() );
+        assertEquals( "dataSets.id", ((Restriction) disjunction.getCriterions().get( 0 )).getQueryPath().getPath() );
+
+        assertTrue( queryPlan.getNonPersistedQuery().isEmpty() );
+    }
+
+    private Schema createSchema( boolean namePersisted )
+        throws Exception
+    {
+        final Attribute attribute = new Attribute();
+        final Map<String, Property> propertyMap = new HashMap<>();
+        addProperty( propertyMap, attribute, "id", true );
+        addProperty( propertyMap, attribute, "uid", true );
+        addProperty( propertyMap, attribute, "name", namePersisted );
+        Schema schema = new OrganisationUnitSchemaDescriptor().getSchema();
+        schema.setPropertyMap( propertyMap );
+        return schema;
+    }
+
     private void addProperty( Map<String, Property> propertyMap, Object bean, String property, boolean persisted )
         throws Exception
     {
@@ -300,7 +300,17 @@ public abstract class AbstractEventService implements EventService
         Events events = new Events();
         List<Event> eventList = new ArrayList<>();
 
-        if ( params.isPaging() )
+        if ( params.isKeysetPaging() )
+        {
+            eventList.addAll( eventStore.getEvents( params, organisationUnits, emptyMap() ) );
+
+            SlimPager pager = new SlimPager( FIRST_PAGE, params.getPageSizeWithDefault(),
+                params.getNextPageAfter() == null );
+            pager.setNextPageAfter( params.getNextPageAfter() );
+
+            events.setPager( pager );
+        }
+        else if ( params.isPaging() )
         {
             final Pager pager;
 
@@ -1118,6 +1128,12 @@ public abstract class AbstractEventService implements EventService
             violation = getOuModeViolation( params, user );
         }
 
+        if ( violation == null && params.isKeysetPaging()
+            && (isNotEmpty( params.getOrders() ) || isNotEmpty( params.getGridOrders() )) )
+        {
+            violation = "Paging with pageAfter is only supported for the default order";
+        }
+
         if ( violation != null )
         {
             log.warn( "Validation failed: " + violation );
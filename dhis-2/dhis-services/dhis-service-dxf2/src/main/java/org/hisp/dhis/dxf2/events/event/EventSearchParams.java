@@ -153,6 +153,18 @@ public class EventSearchParams
 
     private boolean skipPaging;
 
+    /**
+     * Token of the event after which the page starts, enables keyset paging.
+     * An empty token denotes the first page.
+     */
+    private String pageAfter;
+
+    /**
+     * Token of the last event of the fetched page, set when fetching a keyset
+     * page which is not the last one.
+     */
+    private String nextPageAfter;
+
     private boolean includeRelationships;
 
     private List<OrderParam> orders;
@@ -568,6 +580,33 @@ public class EventSearchParams
         return this;
     }
 
+    public boolean isKeysetPaging()
+    {
+        return pageAfter != null && !skipPaging;
+    }
+
+    public String getPageAfter()
+    {
+        return pageAfter;
+    }
+
+    public EventSearchParams setPageAfter( String pageAfter )
+    {
+        this.pageAfter = pageAfter;
+        return this;
+    }
+
+    public String getNextPageAfter()
+    {
+        return nextPageAfter;
+    }
+
+    public EventSearchParams setNextPageAfter( String nextPageAfter )
+    {
+        this.nextPageAfter = nextPageAfter;
+        return this;
+    }
+
     public boolean isIncludeAttributes()
     {
         return includeAttributes;
@@ -103,6 +103,7 @@ import org.hisp.dhis.common.IdScheme;
 import org.hisp.dhis.common.IdSchemes;
 import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.OrganisationUnitSelectionMode;
+import org.hisp.dhis.common.PageCursor;
 import org.hisp.dhis.common.QueryFilter;
 import org.hisp.dhis.common.QueryItem;
 import org.hisp.dhis.common.QueryOperator;
@@ -198,6 +199,11 @@ public class JdbcEventStore implements EventStore
 
     private static final String PSI_LASTUPDATED_GT = " psi.lastupdated >= ";
 
+    /**
+     * Default event order, which is also the order keyset paging is based on.
+     */
+    private static final String DEFAULT_ORDER = "order by psi_lastupdated desc, psi_id desc ";
+
     private static final String DOT_NAME = ".name)";
 
     private static final Map<String, String> QUERY_PARAM_COL_MAP = ImmutableMap.<String, String> builder()
@@ -387,8 +393,19 @@ public class JdbcEventStore implements EventStore
 
             Set<String> notes = new HashSet<>();
 
+            Set<String> fetchedEvents = new HashSet<>();
+
+            PageCursor lastCursor = null;
+
             while ( resultSet.next() )
             {
+                if ( params.isKeysetPaging() && resultSet.getString( "psi_uid" ) != null )
+                {
+                    fetchedEvents.add( resultSet.getString( "psi_uid" ) );
+                    lastCursor = new PageCursor( resultSet.getTimestamp( "psi_lastupdated" ),
+                        resultSet.getLong( "psi_id" ) );
+                }
+
                 if ( resultSet.getString( "psi_uid" ) == null
                     || (params.getCategoryOptionCombo() == null && !isSuper( user ) && !userHasAccess( resultSet )) )
                 {
@@ -560,6 +577,16 @@ public class JdbcEventStore implements EventStore
                 }
             }
 
+            if ( params.isKeysetPaging() )
+            {
+                // The page is full, so there might be more events after the
+                // last fetched one, also if it was filtered out for the user
+
+                params.setNextPageAfter( lastCursor != null && fetchedEvents.size() >= params.getPageSizeWithDefault()
+                    ? lastCursor.toToken()
+                    : null );
+            }
+
             final Multimap<String, Relationship> map = eventStore
                 .getRelationshipsByIds( relationshipIds, params );
 
@@ -1391,6 +1418,17 @@ public class JdbcEventStore implements EventStore
                 .append( " (pi.uid in (:programinstance_uid)) " );
         }
 
+        PageCursor pageAfter = params.isKeysetPaging() ? PageCursor.fromToken( params.getPageAfter() ) : null;
+
+        if ( pageAfter != null )
+        {
+            mapSqlParameterSource.addValue( "pageAfterLastUpdated", pageAfter.getLastUpdated(), Types.TIMESTAMP );
+            mapSqlParameterSource.addValue( "pageAfterId", pageAfter.getId() );
+
+            sqlBuilder.append( hlp.whereAnd() )
+                .append( " (psi.lastupdated, psi.programstageinstanceid) < (:pageAfterLastUpdated, :pageAfterId) " );
+        }
+
         return sqlBuilder.toString();
     }
 
@@ -1660,6 +1698,14 @@ public class JdbcEventStore implements EventStore
         final StringBuilder sqlBuilder = new StringBuilder().append( " " );
         int pageSize = params.getPageSizeWithDefault();
 
+        // Keyset pages start after the given event instead of at an offset, and
+        // whether there is a next page is known from the page being full
+
+        if ( params.isKeysetPaging() )
+        {
+            return sqlBuilder.append( "limit " ).append( pageSize ).append( " " ).toString();
+        }
+
         // When the clients choose to not show the total of pages.
         if ( !params.isTotalPages() )
         {
@@ -1718,6 +1764,11 @@ public class JdbcEventStore implements EventStore
 
     private String getOrderQuery( EventSearchParams params )
     {
+        if ( params.isKeysetPaging() )
+        {
+            return DEFAULT_ORDER;
+        }
+
         ArrayList<String> orderFields = new ArrayList<>();
 
         if ( params.getGridOrders() != null )
@@ -1757,7 +1808,7 @@ public class JdbcEventStore implements EventStore
         }
         else
         {
-            return "order by psi_lastupdated desc ";
+            return DEFAULT_ORDER;
         }
     }
 
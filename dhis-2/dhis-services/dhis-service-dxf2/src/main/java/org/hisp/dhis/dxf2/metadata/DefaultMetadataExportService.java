@@ -62,6 +62,9 @@ import org.hisp.dhis.dataentryform.DataEntryForm;
 import org.hisp.dhis.dataset.DataSet;
 import org.hisp.dhis.dataset.DataSetElement;
 import org.hisp.dhis.dataset.Section;
+import org.hisp.dhis.deletedobject.DeletedObject;
+import org.hisp.dhis.deletedobject.DeletedObjectQuery;
+import org.hisp.dhis.deletedobject.DeletedObjectService;
 import org.hisp.dhis.document.Document;
 import org.hisp.dhis.dxf2.common.OrderParams;
 import org.hisp.dhis.eventchart.EventChart;
@@ -91,6 +94,7 @@ import org.hisp.dhis.programrule.ProgramRuleVariable;
 import org.hisp.dhis.programrule.ProgramRuleVariableService;
 import org.hisp.dhis.query.Query;
 import org.hisp.dhis.query.QueryService;
+import org.hisp.dhis.query.Restrictions;
 import org.hisp.dhis.report.Report;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
@@ -104,6 +108,7 @@ import org.hisp.dhis.user.User;
 import org.hisp.dhis.util.DateUtils;
 import org.hisp.dhis.visualization.Visualization;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -136,6 +141,8 @@ public class DefaultMetadataExportService implements MetadataExportService
 
     private final ObjectMapper objectMapper;
 
+    private final DeletedObjectService deletedObjectService;
+
     @Override
     @SuppressWarnings( "unchecked" )
     public Map<Class<? extends IdentifiableObject>, List<? extends IdentifiableObject>> getMetadata(
@@ -183,6 +190,11 @@ public class DefaultMetadataExportService implements MetadataExportService
             query.setDefaultOrder();
             query.setDefaults( params.getDefaults() );
 
+            if ( params.getSince() != null )
+            {
+                query.add( Restrictions.ge( "lastUpdated", params.getSince() ) );
+            }
+
             List<? extends IdentifiableObject> objects = queryService.query( query );
 
             if ( !objects.isEmpty() )
@@ -229,6 +241,11 @@ public class DefaultMetadataExportService implements MetadataExportService
             }
         }
 
+        if ( params.getSince() != null )
+        {
+            rootNode.set( "deletedObjects", objectMapper.valueToTree( getDeletedObjects( params ) ) );
+        }
+
         return rootNode;
     }
 
@@ -273,6 +290,18 @@ public class DefaultMetadataExportService implements MetadataExportService
                 generator.writeEndArray();
             }
 
+            if ( params.getSince() != null )
+            {
+                generator.writeArrayFieldStart( "deletedObjects" );
+
+                for ( DeletedObject deletedObject : getDeletedObjects( params ) )
+                {
+                    generator.writeObject( deletedObject );
+                }
+
+                generator.writeEndArray();
+            }
+
             generator.writeEndObject();
         }
     }
@@ -364,6 +393,12 @@ public class DefaultMetadataExportService implements MetadataExportService
             parameters.remove( "skipSharing" );
         }
 
+        if ( parameters.containsKey( "since" ) )
+        {
+            params.setSince( getSince( parameters.get( "since" ).get( 0 ) ) );
+            parameters.remove( "since" );
+        }
+
         for ( String parameterKey : parameters.keySet() )
         {
             String[] parameter = parameterKey.split( ":" );
@@ -496,6 +531,46 @@ public class DefaultMetadataExportService implements MetadataExportService
     // Utility Methods
     // -----------------------------------------------------------------------------------
 
+    /**
+     * Parses the since parameter, rejecting values which are not a valid date
+     * as silently falling back to a full export would hide client errors.
+     */
+    private Date getSince( String since )
+    {
+        Date date = null;
+
+        try
+        {
+            date = DateUtils.parseDate( since );
+        }
+        catch ( IllegalArgumentException ex )
+        {
+            // handled below
+        }
+
+        if ( date == null )
+        {
+            throw new IllegalArgumentException( "Invalid since date: " + since );
+        }
+
+        return date;
+    }
+
+    /**
+     * Returns the objects of the exported classes which were deleted at or
+     * after {@link MetadataExportParams#getSince()}.
+     */
+    private List<DeletedObject> getDeletedObjects( MetadataExportParams params )
+    {
+        DeletedObjectQuery query = new DeletedObjectQuery();
+        query.setDeletedAt( params.getSince() );
+        query.setSkipPaging( true );
+
+        params.getClasses().forEach( klass -> query.getKlass().add( ClassUtils.getShortName( klass ) ) );
+
+        return deletedObjectService.getDeletedObjects( query );
+    }
+
     private boolean isSelectedClass( @Nonnull List<String> values )
     {
         if ( values.stream().anyMatch( "false"::equalsIgnoreCase ) )
@@ -29,9 +29,15 @@ package org.hisp.dhis.dxf2.metadata;
 
 import static org.hisp.dhis.dxf2.metadata.objectbundle.EventReportCompatibilityGuard.handleDeprecationIfEventReport;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +49,7 @@ import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.MergeMode;
 import org.hisp.dhis.commons.timer.SystemTimer;
 import org.hisp.dhis.commons.timer.Timer;
+import org.hisp.dhis.deletedobject.DeletedObject;
 import org.hisp.dhis.dxf2.metadata.feedback.ImportReport;
 import org.hisp.dhis.dxf2.metadata.feedback.ImportReportMode;
 import org.hisp.dhis.dxf2.metadata.objectbundle.ObjectBundle;
@@ -58,11 +65,14 @@ import org.hisp.dhis.preheat.PreheatIdentifier;
 import org.hisp.dhis.preheat.PreheatMode;
 import org.hisp.dhis.scheduling.JobConfiguration;
 import org.hisp.dhis.scheduling.JobType;
+import org.hisp.dhis.schema.Schema;
+import org.hisp.dhis.schema.SchemaService;
 import org.hisp.dhis.security.acl.AclService;
 import org.hisp.dhis.system.notification.NotificationLevel;
 import org.hisp.dhis.system.notification.Notifier;
 import org.hisp.dhis.user.CurrentUserService;
 import org.hisp.dhis.user.User;
+import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -88,6 +98,8 @@ public class DefaultMetadataImportService implements MetadataImportService
 
     private final Notifier notifier;
 
+    private final SchemaService schemaService;
+
     @Override
     @Transactional
     public ImportReport importMetadata( MetadataImportParams params )
@@ -134,6 +146,11 @@ public class DefaultMetadataImportService implements MetadataImportService
             ObjectBundleCommitReport commitReport = objectBundleService.commit( bundle );
             importReport.addTypeReports( commitReport );
 
+            if ( params.hasDeletedObjects() )
+            {
+                importDeletedObjects( params, importReport );
+            }
+
             if ( importReport.hasErrorReports() )
             {
                 importReport.setStatus( Status.WARNING );
@@ -272,6 +289,72 @@ public class DefaultMetadataImportService implements MetadataImportService
         return Enums.getIfPresent( enumKlass, value ).or( defaultValue );
     }
 
+    /**
+     * Deletes the objects listed as deleted objects of a metadata export with
+     * a since date. Objects which are part of the imported payload or which
+     * do not exist are skipped, the remaining are deleted in a separate bundle
+     * using the same settings as the import.
+     */
+    private void importDeletedObjects( MetadataImportParams params, ImportReport importReport )
+    {
+        Map<String, Schema> schemas = schemaService.getMetadataSchemas().stream()
+            .collect( Collectors.toMap( schema -> schema.getKlass().getSimpleName(), Function.identity(),
+                ( a, b ) -> a ) );
+
+        Set<String> importedUids = params.getObjects().values().stream()
+            .flatMap( List::stream )
+            .map( IdentifiableObject::getUid )
+            .filter( Objects::nonNull )
+            .collect( Collectors.toSet() );
+
+        Map<Class<? extends IdentifiableObject>, Set<String>> deletedUids = new HashMap<>();
+
+        for ( DeletedObject deletedObject : params.getDeletedObjects() )
+        {
+            Schema schema = schemas.get( deletedObject.getKlass() );
+
+            if ( schema != null && deletedObject.getUid() != null && !importedUids.contains( deletedObject.getUid() ) )
+            {
+                deletedUids.computeIfAbsent( getIdentifiableClass( schema ), klass -> new HashSet<>() )
+                    .add( deletedObject.getUid() );
+            }
+        }
+
+        Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> objects = new HashMap<>();
+
+        deletedUids.forEach( ( klass, uids ) -> manager.getByUid( klass, uids ).forEach( persisted -> {
+            BaseIdentifiableObject object = (BaseIdentifiableObject) BeanUtils.instantiateClass( klass );
+            object.setUid( persisted.getUid() );
+            objects.computeIfAbsent( klass, k -> new ArrayList<>() ).add( object );
+        } ) );
+
+        if ( objects.isEmpty() )
+        {
+            return;
+        }
+
+        ObjectBundleParams bundleParams = params.toObjectBundleParams();
+        bundleParams.setImportStrategy( ImportStrategy.DELETE );
+        bundleParams.setPreheatIdentifier( PreheatIdentifier.UID );
+        bundleParams.setObjects( objects );
+
+        ObjectBundle bundle = objectBundleService.create( bundleParams );
+
+        ObjectBundleValidationReport validationReport = objectBundleValidationService.validate( bundle );
+        importReport.addTypeReports( validationReport );
+
+        if ( !validationReport.hasErrorReports() || AtomicMode.NONE == bundle.getAtomicMode() )
+        {
+            importReport.addTypeReports( objectBundleService.commit( bundle ) );
+        }
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private Class<? extends IdentifiableObject> getIdentifiableClass( Schema schema )
+    {
+        return (Class<? extends IdentifiableObject>) schema.getKlass();
+    }
+
     private void preCreateBundle( MetadataImportParams params )
     {
         if ( params.getUser() == null )
@@ -30,6 +30,7 @@ package org.hisp.dhis.dxf2.metadata;
 import static org.hisp.dhis.commons.collection.CollectionUtils.addAllUnique;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -104,6 +105,12 @@ public class MetadataExportParams
      */
     private boolean skipSharing;
 
+    /**
+     * If set, only objects updated at or after this date are exported, and
+     * objects deleted at or after this date are included as deleted objects.
+     */
+    private Date since;
+
     public MetadataExportParams()
     {
     }
@@ -246,4 +253,14 @@ public class MetadataExportParams
     {
         return this.skipSharing;
     }
-}
\ No newline at end of file
+
+    public Date getSince()
+    {
+        return since;
+    }
+
+    public void setSince( Date since )
+    {
+        this.since = since;
+    }
+}
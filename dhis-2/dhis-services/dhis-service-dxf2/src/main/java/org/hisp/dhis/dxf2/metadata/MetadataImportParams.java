@@ -35,6 +35,7 @@ import java.util.Map;
 import org.hisp.dhis.common.DxfNamespaces;
 import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.common.MergeMode;
+import org.hisp.dhis.deletedobject.DeletedObject;
 import org.hisp.dhis.dxf2.csv.CsvImportClass;
 import org.hisp.dhis.dxf2.metadata.feedback.ImportReportMode;
 import org.hisp.dhis.dxf2.metadata.objectbundle.ObjectBundleMode;
@@ -161,6 +162,11 @@ public class MetadataImportParams
      */
     private Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> objects = new HashMap<>();
 
+    /**
+     * Objects deleted on the exporting side, to delete after the import.
+     */
+    private List<DeletedObject> deletedObjects = new ArrayList<>();
+
     public MetadataImportParams()
     {
     }
@@ -465,6 +471,22 @@ public class MetadataImportParams
         return this;
     }
 
+    public List<DeletedObject> getDeletedObjects()
+    {
+        return deletedObjects;
+    }
+
+    public MetadataImportParams setDeletedObjects( List<DeletedObject> deletedObjects )
+    {
+        this.deletedObjects = deletedObjects;
+        return this;
+    }
+
+    public boolean hasDeletedObjects()
+    {
+        return deletedObjects != null && !deletedObjects.isEmpty();
+    }
+
     @SuppressWarnings( "unchecked" )
     public MetadataImportParams addMetadata( List<Schema> schemas, Metadata metadata )
     {
@@ -69,6 +69,14 @@ import org.springframework.transaction.annotation.Transactional;
 @AllArgsConstructor
 public class DefaultObjectBundleService implements ObjectBundleService
 {
+    /**
+     * JDBC batch size used while committing a bundle with
+     * {@link FlushMode#AUTO}. Objects are committed one type at a time, so
+     * inserts and updates of the same table end up next to each other in the
+     * flush and can be sent to the database in batches.
+     */
+    private static final int COMMIT_JDBC_BATCH_SIZE = 50;
+
     private final CurrentUserService currentUserService;
 
     private final PreheatService preheatService;
@@ -130,9 +138,23 @@ public class DefaultObjectBundleService implements ObjectBundleService
         List<ObjectBundleHook<?>> commitHooks = objectBundleHooks.getCommitHooks( klasses );
         commitHooks.forEach( hook -> hook.preCommit( bundle ) );
 
-        for ( Class<? extends IdentifiableObject> klass : klasses )
+        Integer jdbcBatchSize = session.getJdbcBatchSize();
+
+        if ( FlushMode.AUTO == bundle.getFlushMode() )
+        {
+            session.setJdbcBatchSize( COMMIT_JDBC_BATCH_SIZE );
+        }
+
+        try
+        {
+            for ( Class<? extends IdentifiableObject> klass : klasses )
+            {
+                commitObjectType( bundle, typeReports, session, klass );
+            }
+        }
+        finally
         {
-            commitObjectType( bundle, typeReports, session, klass );
+            session.setJdbcBatchSize( jdbcBatchSize );
         }
 
         if ( !bundle.getImportMode().isDelete() )
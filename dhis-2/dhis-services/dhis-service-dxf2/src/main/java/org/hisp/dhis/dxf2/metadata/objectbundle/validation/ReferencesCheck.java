@@ -141,7 +141,7 @@ public class ReferencesCheck implements ValidationCheck
     private void checkReference( IdentifiableObject object, Preheat preheat, PreheatIdentifier identifier,
         boolean skipSharing, List<PreheatErrorReport> preheatErrorReports, Property property )
     {
-        IdentifiableObject refObject = ReflectionUtils.invokeMethod( object, property.getGetterMethod() );
+        IdentifiableObject refObject = property.getValue( object );
         IdentifiableObject ref = preheat.get( identifier, refObject );
 
         if ( ref == null && refObject != null && !preheat.isDefault( refObject ) )
@@ -167,8 +167,7 @@ public class ReferencesCheck implements ValidationCheck
         List<PreheatErrorReport> preheatErrorReports, Property property )
     {
         Collection<IdentifiableObject> objects = ReflectionUtils.newCollectionInstance( property.getKlass() );
-        Collection<IdentifiableObject> refObjects = ReflectionUtils.invokeMethod( object,
-            property.getGetterMethod() );
+        Collection<IdentifiableObject> refObjects = property.getValue( object );
 
         if ( refObjects != null )
         {
@@ -192,7 +191,7 @@ public class ReferencesCheck implements ValidationCheck
             }
         }
 
-        ReflectionUtils.invokeMethod( object, property.getSetterMethod(), objects );
+        property.setValue( object, objects );
     }
 
     private void checkAttributeValues( IdentifiableObject object, Preheat preheat, PreheatIdentifier identifier,
@@ -41,7 +41,6 @@ import org.hisp.dhis.attribute.AttributeService;
 import org.hisp.dhis.attribute.AttributeValue;
 import org.hisp.dhis.common.BaseIdentifiableObject;
 import org.hisp.dhis.common.CodeGenerator;
-import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.fieldfiltering.transformers.IsEmptyFieldTransformer;
 import org.hisp.dhis.fieldfiltering.transformers.IsNotEmptyFieldTransformer;
 import org.hisp.dhis.fieldfiltering.transformers.KeyByFieldTransformer;
@@ -51,6 +50,7 @@ import org.hisp.dhis.fieldfiltering.transformers.SizeFieldTransformer;
 import org.hisp.dhis.hibernate.HibernateProxyUtils;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
+import org.hisp.dhis.security.acl.Access;
 import org.hisp.dhis.security.acl.AclService;
 import org.hisp.dhis.user.CurrentUserService;
 import org.hisp.dhis.user.UserGroupService;
@@ -65,6 +65,8 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.MapperConfig;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
@@ -72,6 +74,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * @author Morten Olav Hansen
@@ -172,21 +175,18 @@ public class FieldFilterService
         Object firstObject = params.getObjects().iterator().next();
         fieldPathHelper.apply( fieldPaths, HibernateProxyUtils.getRealClass( firstObject ) );
 
-        SimpleFilterProvider filterProvider = getSimpleFilterProvider( fieldPaths, params.isSkipSharing() );
-
-        // only set filter provider on a local copy so that we don't affect
-        // other object mappers (running across other threads)
-        ObjectMapper objectMapper = jsonMapper.copy().setFilterProvider( filterProvider );
+        ObjectWriter objectWriter = getObjectWriter( fieldPaths, params.isSkipSharing() );
 
         Map<String, List<FieldTransformer>> fieldTransformers = getTransformers( fieldPaths );
 
+        applyAccess( params, fieldPaths );
+
         for ( Object object : params.getObjects() )
         {
-            applyAccess( params, fieldPaths, object );
             applySharingDisplayNames( params, fieldPaths, object );
             applyAttributeValuesAttribute( params, fieldPaths, object );
 
-            ObjectNode objectNode = objectMapper.valueToTree( object );
+            ObjectNode objectNode = valueToTree( objectWriter, object );
             applyTransformers( objectNode, null, "", fieldTransformers );
 
             objectNodes.add( objectNode );
@@ -238,21 +238,28 @@ public class FieldFilterService
         Object firstObject = params.getObjects().iterator().next();
         fieldPathHelper.apply( fieldPaths, HibernateProxyUtils.getRealClass( firstObject ) );
 
-        SimpleFilterProvider filterProvider = getSimpleFilterProvider( fieldPaths, params.isSkipSharing() );
-
-        // only set filter provider on a local copy so that we don't affect
-        // other object mappers (running across other threads)
-        ObjectMapper objectMapper = jsonMapper.copy().setFilterProvider( filterProvider );
+        ObjectWriter objectWriter = getObjectWriter( fieldPaths, params.isSkipSharing() );
 
         Map<String, List<FieldTransformer>> fieldTransformers = getTransformers( fieldPaths );
 
+        // objects are only materialized as trees if the tree needs to be
+        // modified after serialization, otherwise they are written directly
+        boolean requiresTree = hasTransformers( fieldTransformers ) || hasAttributeValueFields( fieldPaths );
+
+        applyAccess( params, fieldPaths );
+
         for ( Object object : params.getObjects() )
         {
-            applyAccess( params, fieldPaths, object );
             applySharingDisplayNames( params, fieldPaths, object );
             applyAttributeValuesAttribute( params, fieldPaths, object );
 
-            ObjectNode objectNode = objectMapper.valueToTree( object );
+            if ( !requiresTree )
+            {
+                objectWriter.writeValue( generator, object );
+                continue;
+            }
+
+            ObjectNode objectNode = valueToTree( objectWriter, object );
             applyAttributeValueFields( object, objectNode, fieldPaths );
             applyTransformers( objectNode, null, "", fieldTransformers );
 
@@ -260,6 +267,52 @@ public class FieldFilterService
         }
     }
 
+    /**
+     * Creates a writer using the field filter for the given paths. The writer
+     * shares the serializer caches of the field filter object mapper, unlike a
+     * copy of the mapper which would have to build all serializers again.
+     * Flushing is left to the owner of the generator.
+     */
+    private ObjectWriter getObjectWriter( List<FieldPath> fieldPaths, boolean skipSharing )
+    {
+        return jsonMapper.writer( getSimpleFilterProvider( fieldPaths, skipSharing ) )
+            .without( SerializationFeature.FLUSH_AFTER_WRITE_VALUE );
+    }
+
+    /**
+     * Serializes the given object into an {@link ObjectNode}, equivalent to
+     * {@link ObjectMapper#valueToTree(Object)} but using the given writer.
+     */
+    private ObjectNode valueToTree( ObjectWriter objectWriter, Object object )
+    {
+        if ( object == null )
+        {
+            return null;
+        }
+
+        try ( TokenBuffer buffer = new TokenBuffer( jsonMapper, false ) )
+        {
+            objectWriter.writeValue( buffer, object );
+
+            return jsonMapper.readTree( buffer.asParser() );
+        }
+        catch ( IOException ex )
+        {
+            throw new IllegalArgumentException( ex.getMessage(), ex );
+        }
+    }
+
+    private boolean hasTransformers( Map<String, List<FieldTransformer>> fieldTransformers )
+    {
+        return fieldTransformers.values().stream().anyMatch( transformers -> !transformers.isEmpty() );
+    }
+
+    private boolean hasAttributeValueFields( List<FieldPath> fieldPaths )
+    {
+        return fieldPaths.stream()
+            .anyMatch( path -> path.getProperty() == null && CodeGenerator.isValidUid( path.getFullPath() ) );
+    }
+
     private void applyAttributeValueFields( Object object, ObjectNode objectNode, List<FieldPath> fieldPaths )
     {
         if ( !(object instanceof BaseIdentifiableObject) )
@@ -474,15 +527,36 @@ public class FieldFilterService
             } );
     }
 
-    private void applyAccess( FieldFilterParams<?> params, List<FieldPath> fieldPaths, Object object )
+    /**
+     * Sets access on all objects (including nested ones) which have access
+     * requested in the field paths. The access of all objects is evaluated in
+     * one call, so that user data is only prepared once.
+     */
+    private void applyAccess( FieldFilterParams<?> params, List<FieldPath> fieldPaths )
     {
-        applyFieldPathVisitor( object, fieldPaths, params, s -> s.equals( "access" ) || s.endsWith( ".access" ),
-            o -> {
-                if ( o instanceof BaseIdentifiableObject )
-                {
-                    ((BaseIdentifiableObject) o)
-                        .setAccess( aclService.getAccess( ((IdentifiableObject) o), params.getUser() ) );
-                }
-            } );
+        List<BaseIdentifiableObject> objects = new ArrayList<>();
+
+        for ( Object object : params.getObjects() )
+        {
+            applyFieldPathVisitor( object, fieldPaths, params, s -> s.equals( "access" ) || s.endsWith( ".access" ),
+                o -> {
+                    if ( o instanceof BaseIdentifiableObject )
+                    {
+                        objects.add( (BaseIdentifiableObject) o );
+                    }
+                } );
+        }
+
+        if ( objects.isEmpty() )
+        {
+            return;
+        }
+
+        List<Access> accesses = aclService.getAccess( objects, params.getUser() );
+
+        for ( int i = 0; i < objects.size(); i++ )
+        {
+            objects.get( i ).setAccess( accesses.get( i ) );
+        }
     }
 }
@@ -110,6 +110,11 @@ public final class NodeUtils
         pagerNode.addChild( new SimpleNode( "pageSize", pager.getPageSize() ) );
         pagerNode.addChild( new SimpleNode( "isLastPage", pager.isLastPage() ) );
 
+        if ( pager.getNextPageAfter() != null )
+        {
+            pagerNode.addChild( new SimpleNode( "nextPageAfter", pager.getNextPageAfter() ) );
+        }
+
         return pagerNode;
     }
 
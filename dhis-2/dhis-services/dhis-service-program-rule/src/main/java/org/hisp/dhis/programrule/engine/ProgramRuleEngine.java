@@ -28,6 +28,7 @@
 package org.hisp.dhis.programrule.engine;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 import lombok.NonNull;
@@ -87,6 +88,103 @@ public class ProgramRuleEngine
             enrollment.getProgram(), trackedEntityAttributeValues, getRuleEvents( events, null ) );
     }
 
+    /**
+     * Evaluates program rules for a batch of enrollments belonging to the same
+     * program. Unlike calling
+     * {@link #evaluateEnrollmentAndEvents(ProgramInstance, Set, List)} for
+     * every enrollment, program rules, rule variables, constants and
+     * supplementary data are loaded once for the whole batch, one
+     * {@link RuleEngineContext} is built per distinct rule selection and the
+     * enrollments are then evaluated in parallel.
+     *
+     * @param program the {@link Program} all enrollments belong to.
+     * @param inputs the enrollments to evaluate together with their events and
+     *        attribute values.
+     * @return the rule effects of all enrollments and events in the batch.
+     */
+    public List<RuleEffects> evaluateEnrollmentsAndEvents( Program program, List<RuleEngineEnrollmentInput> inputs )
+    {
+        if ( inputs.isEmpty() )
+        {
+            return Collections.emptyList();
+        }
+
+        // Rules are selected by the program stage of any of the events, the
+        // same way as when a single enrollment is evaluated
+
+        Map<Optional<String>, List<RuleEngineEnrollmentInput>> inputsByProgramStage = inputs.stream()
+            .collect( Collectors.groupingBy( i -> i.getEvents().stream().findAny()
+                .map( e -> e.getProgramStage().getUid() ) ) );
+
+        Map<Optional<String>, List<ProgramRule>> programRulesByProgramStage = new HashMap<>();
+
+        for ( Optional<String> programStageUid : inputsByProgramStage.keySet() )
+        {
+            programRulesByProgramStage.put( programStageUid,
+                implementableRuleService.getProgramRules( program, programStageUid.orElse( null ) ) );
+        }
+
+        List<ProgramRule> allProgramRules = programRulesByProgramStage.values().stream()
+            .flatMap( Collection::stream )
+            .distinct()
+            .collect( Collectors.toList() );
+
+        if ( allProgramRules.isEmpty() )
+        {
+            return Collections.emptyList();
+        }
+
+        Map<String, List<String>> supplementaryData = supplementaryDataProvider.getSupplementaryData( allProgramRules );
+
+        Map<String, String> constantMap = getConstantMap();
+
+        List<RuleVariable> ruleVariables = programRuleEntityMapperService
+            .toMappedProgramRuleVariables( programRuleVariableService.getProgramRuleVariable( program ) );
+
+        // Mapping reads from Hibernate entities and is done sequentially, only
+        // the rule engine evaluations themselves run in parallel
+
+        List<Callable<List<RuleEffects>>> evaluations = new ArrayList<>( inputs.size() );
+
+        for ( Map.Entry<Optional<String>, List<RuleEngineEnrollmentInput>> entry : inputsByProgramStage.entrySet() )
+        {
+            List<ProgramRule> programRules = programRulesByProgramStage.get( entry.getKey() );
+
+            if ( programRules.isEmpty() )
+            {
+                continue;
+            }
+
+            RuleEngineContext ruleEngineContext = RuleEngineContext.builder()
+                .supplementaryData( supplementaryData )
+                .rules( programRuleEntityMapperService.toMappedProgramRules( programRules ) )
+                .ruleVariables( ruleVariables )
+                .constantsValue( constantMap )
+                .build();
+
+            for ( RuleEngineEnrollmentInput input : entry.getValue() )
+            {
+                RuleEngine.Builder builder = ruleEngineContext.toEngineBuilder()
+                    .triggerEnvironment( TriggerEnvironment.SERVER )
+                    .events( getRuleEvents( input.getEvents(), null ) );
+
+                RuleEnrollment ruleEnrollment = getRuleEnrollment( input.getEnrollment(),
+                    input.getAttributeValues() );
+
+                if ( ruleEnrollment != null )
+                {
+                    builder.enrollment( ruleEnrollment );
+                }
+
+                evaluations.add( builder.build().evaluate() );
+            }
+        }
+
+        return evaluations.parallelStream()
+            .flatMap( evaluation -> callRuleEngine( evaluation ).stream() )
+            .collect( Collectors.toList() );
+    }
+
     public List<RuleEffects> evaluateProgramEvents( Set<ProgramStageInstance> events, Program program )
     {
         return evaluateProgramRulesForMultipleTrackerObjects( null, null, program, null,
@@ -145,6 +243,19 @@ public class ProgramRuleEngine
         }
     }
 
+    private List<RuleEffects> callRuleEngine( Callable<List<RuleEffects>> evaluation )
+    {
+        try
+        {
+            return evaluation.call();
+        }
+        catch ( Exception e )
+        {
+            log.error( DebugUtils.getStackTrace( e ) );
+            return Collections.emptyList();
+        }
+    }
+
     private RuleEngine getRuleEngine( ProgramStageInstance programStageInstance, Program program,
         ProgramInstance enrollment,
         List<TrackedEntityAttributeValue> trackedEntityAttributeValues,
@@ -227,9 +338,7 @@ public class ProgramRuleEngine
         List<ProgramRuleVariable> programRuleVariables = programRuleVariableService
             .getProgramRuleVariable( program );
 
-        Map<String, String> constantMap = constantService.getConstantMap().entrySet()
-            .stream()
-            .collect( Collectors.toMap( Map.Entry::getKey, v -> v.getValue().toString() ) );
+        Map<String, String> constantMap = getConstantMap();
 
         Map<String, List<String>> supplementaryData = supplementaryDataProvider.getSupplementaryData( programRules );
 
@@ -244,9 +353,7 @@ public class ProgramRuleEngine
     private RuleEngine.Builder ruleEngineBuilder( List<ProgramRule> programRules,
         List<ProgramRuleVariable> programRuleVariables, RuleEngineIntent intent )
     {
-        Map<String, String> constantMap = constantService.getConstantMap().entrySet()
-            .stream()
-            .collect( Collectors.toMap( Map.Entry::getKey, v -> v.getValue().toString() ) );
+        Map<String, String> constantMap = getConstantMap();
 
         Map<String, List<String>> supplementaryData = supplementaryDataProvider.getSupplementaryData( programRules );
 
@@ -276,6 +383,13 @@ public class ProgramRuleEngine
         }
     }
 
+    private Map<String, String> getConstantMap()
+    {
+        return constantService.getConstantMap().entrySet()
+            .stream()
+            .collect( Collectors.toMap( Map.Entry::getKey, v -> v.getValue().toString() ) );
+    }
+
     private RuleEvent getRuleEvent( ProgramStageInstance programStageInstance )
     {
         return programRuleEntityMapperService.toMappedRuleEvent( programStageInstance );
@@ -44,6 +44,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -61,6 +64,7 @@ import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.ListMap;
 import org.hisp.dhis.common.MapMap;
 import org.hisp.dhis.commons.util.DebugUtils;
+import org.hisp.dhis.commons.util.SystemUtils;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataelement.DataElementOperand;
 import org.hisp.dhis.datavalue.DataValue;
@@ -81,8 +85,13 @@ import org.hisp.dhis.user.CurrentUserService;
 import org.hisp.dhis.user.User;
 import org.hisp.dhis.util.DateUtils;
 import org.hisp.quick.BatchHandlerFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -117,6 +126,8 @@ public class DefaultPredictionService
 
     private final CurrentUserService currentUserService;
 
+    private final TransactionTemplate transactionTemplate;
+
     @Override
     public void setAnalyticsService( AnalyticsService analyticsService )
     {
@@ -162,16 +173,145 @@ public class DefaultPredictionService
             () -> fetchPredictors( predictors, predictorGroups ) );
 
         PredictionSummary summary = new PredictionSummary();
-        progress.startingStage( format( "Running predictors from %s to %s", startDate, endDate ),
-            predictorList.size(), SKIP_ITEM_OUTLIER );
-        progress.runStage( predictorList.stream(),
-            predictor -> format( "Running predictor %s from %s to %s", predictor.getName(), startDate, endDate ),
-            predictor -> predict( predictor, startDate, endDate, summary ),
-            ( success, failed ) -> format( "Finished predictors from %s to %s: %s", startDate, endDate, summary ) );
+        List<List<Predictor>> stages = getPredictorStages( predictorList );
+        User currentUser = currentUserService.getCurrentUser();
+        String currentUserUid = currentUser == null ? null : currentUser.getUid();
+
+        TransactionTemplate predictorTransaction = new TransactionTemplate(
+            transactionTemplate.getTransactionManager() );
+        predictorTransaction.setPropagationBehavior( TransactionDefinition.PROPAGATION_REQUIRES_NEW );
+
+        // predictors may run on pool threads, which have to act as the job
+        // user for analytics security constraints
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        Function<Predictor, String> description = predictor -> format( "Running predictor %s from %s to %s",
+            predictor.getName(), startDate, endDate );
+        Consumer<Predictor> work = predictor -> new DelegatingSecurityContextRunnable(
+            () -> predictorTransaction.executeWithoutResult( status -> predict(
+                predictor.getUid(), currentUserUid, startDate, endDate, summary ) ),
+            securityContext ).run();
+
+        for ( List<Predictor> stage : stages )
+        {
+            progress.startingStage( format( "Running predictors from %s to %s", startDate, endDate ),
+                stage.size(), SKIP_ITEM_OUTLIER );
+
+            int parallelism = getParallelism( stage );
+
+            if ( parallelism > 1 )
+            {
+                progress.runStageInParallel( parallelism, stage, description, work );
+            }
+            else
+            {
+                progress.runStage( stage.stream(), description, work,
+                    ( success, failed ) -> format( "Finished predictors from %s to %s: %s", startDate, endDate,
+                        summary ) );
+            }
+        }
 
         return summary;
     }
 
+    /**
+     * Runs a predictor within the current transaction, which may be on a
+     * different thread than the one which fetched the predictor. The predictor
+     * and user are therefore reloaded, and the predictions are counted in a
+     * separate summary which is added to the overall summary.
+     */
+    private void predict( String predictorUid, String currentUserUid, Date startDate, Date endDate,
+        PredictionSummary summary )
+    {
+        Predictor predictor = predictorService.getPredictor( predictorUid );
+        User currentUser = currentUserUid == null ? null : idObjectManager.get( User.class, currentUserUid );
+        PredictionSummary predictorSummary = new PredictionSummary();
+
+        try
+        {
+            predict( predictor, startDate, endDate, predictorSummary, currentUser );
+        }
+        finally
+        {
+            summary.add( predictorSummary );
+        }
+    }
+
+    /**
+     * Groups predictors into stages. The predictors within a stage run in
+     * parallel, and the stages run one after the other. A predictor is placed
+     * in a later stage than any preceding predictor that writes a data element
+     * it reads, reads the data element it writes or writes the same data
+     * element, so the results are the same as when running them in order.
+     */
+    private List<List<Predictor>> getPredictorStages( List<Predictor> predictors )
+    {
+        List<List<Predictor>> stages = new ArrayList<>();
+        List<Set<String>> inputs = new ArrayList<>();
+        int[] stageIndexes = new int[predictors.size()];
+
+        for ( int i = 0; i < predictors.size(); i++ )
+        {
+            Predictor predictor = predictors.get( i );
+            String output = predictor.getOutput().getUid();
+            Set<String> input = getInputDataElementUids( predictor );
+            int stageIndex = 0;
+
+            for ( int j = 0; j < i; j++ )
+            {
+                String previousOutput = predictors.get( j ).getOutput().getUid();
+
+                if ( output.equals( previousOutput ) || input.contains( previousOutput )
+                    || inputs.get( j ).contains( output ) )
+                {
+                    stageIndex = Math.max( stageIndex, stageIndexes[j] + 1 );
+                }
+            }
+
+            if ( stageIndex == stages.size() )
+            {
+                stages.add( new ArrayList<>() );
+            }
+
+            stages.get( stageIndex ).add( predictor );
+            stageIndexes[i] = stageIndex;
+            inputs.add( input );
+        }
+
+        return stages;
+    }
+
+    /**
+     * Returns the UIDs of the data elements whose data values are read by the
+     * generator or sample skip test of the given predictor.
+     */
+    private Set<String> getInputDataElementUids( Predictor predictor )
+    {
+        ExpressionInfo info = expressionService.getExpressionInfo( ExpressionParams.builder()
+            .expression( predictor.getGenerator().getExpression() )
+            .parseType( PREDICTOR_EXPRESSION )
+            .build() );
+
+        if ( predictor.getSampleSkipTest() != null )
+        {
+            addSampleSkipTestToExInfo( info, predictor.getSampleSkipTest().getExpression() );
+        }
+
+        return info.getAllItemIds().stream()
+            .filter( DimensionalItemId::isDataElementOrOperand )
+            .map( DimensionalItemId::getId0 )
+            .collect( Collectors.toSet() );
+    }
+
+    /**
+     * Each predictor uses a second thread to fetch data values, so at most
+     * half of the cores are used to run predictors.
+     */
+    private int getParallelism( List<Predictor> stage )
+    {
+        return Math.min( Math.max( 1, SystemUtils.getCpuCores() / 2 ), stage.size() );
+    }
+
     private List<Predictor> fetchPredictors( List<String> predictors, List<String> predictorGroups )
     {
         if ( CollectionUtils.isEmpty( predictors ) && CollectionUtils.isEmpty( predictorGroups ) )
@@ -197,6 +337,12 @@ public class DefaultPredictionService
 
     @Override
     public void predict( Predictor predictor, Date startDate, Date endDate, PredictionSummary predictionSummary )
+    {
+        predict( predictor, startDate, endDate, predictionSummary, currentUserService.getCurrentUser() );
+    }
+
+    private void predict( Predictor predictor, Date startDate, Date endDate, PredictionSummary predictionSummary,
+        User currentUser )
     {
         Expression generator = predictor.getGenerator();
         Expression skipTest = predictor.getSampleSkipTest();
@@ -224,7 +370,6 @@ public class DefaultPredictionService
             !baseExParams.getItemMap().values().isEmpty();
 
         Set<OrganisationUnit> currentUserOrgUnits = new HashSet<>();
-        User currentUser = currentUserService.getCurrentUser();
 
         if ( currentUser != null )
         {
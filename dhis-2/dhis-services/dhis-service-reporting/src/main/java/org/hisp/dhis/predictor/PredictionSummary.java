@@ -89,6 +89,19 @@ public class PredictionSummary extends AbstractWebMessageResponse
         unchanged += 1;
     }
 
+    /**
+     * Adds the counts of the given summary to this summary. This may be called
+     * concurrently for predictors running in parallel.
+     */
+    public synchronized void add( PredictionSummary summary )
+    {
+        predictors += summary.predictors;
+        inserted += summary.inserted;
+        updated += summary.updated;
+        deleted += summary.deleted;
+        unchanged += summary.unchanged;
+    }
+
     public int getPredictions()
     {
         return inserted + updated + unchanged;
@@ -29,7 +29,6 @@ package org.hisp.dhis.validation;
 
 import static org.hisp.dhis.antlr.AntlrParserUtils.castDouble;
 import static org.hisp.dhis.expression.MissingValueStrategy.NEVER_SKIP;
-import static org.hisp.dhis.expression.ParseType.SIMPLE_TEST;
 import static org.hisp.dhis.expression.ParseType.VALIDATION_RULE_EXPRESSION;
 import static org.hisp.dhis.system.util.MathUtils.addDoubleObjects;
 import static org.hisp.dhis.system.util.MathUtils.roundSignificant;
@@ -61,7 +60,6 @@ import org.hisp.dhis.datavalue.DataExportParams;
 import org.hisp.dhis.datavalue.DataValueService;
 import org.hisp.dhis.datavalue.DeflatedDataValue;
 import org.hisp.dhis.expression.Expression;
-import org.hisp.dhis.expression.ExpressionParams;
 import org.hisp.dhis.expression.ExpressionService;
 import org.hisp.dhis.expression.Operator;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
@@ -322,11 +320,36 @@ public class DataValidationRunner
                 }
             }
 
-            String test = leftSide
-                + operator.getMathematicalOperator()
-                + rightSide;
-            return !(Boolean) expressionService.getExpressionValue( ExpressionParams.builder()
-                .expression( test ).parseType( SIMPLE_TEST ).build() );
+            return !isSatisfied( operator, leftSide, rightSide );
+        }
+
+        /**
+         * Compares the left and right side values with the given operator.
+         * This is evaluated directly rather than parsing a test expression,
+         * since it is done for every organisation unit, period, rule and
+         * attribute option combo.
+         */
+        private boolean isSatisfied( Operator operator, double leftSide, double rightSide )
+        {
+            int comparison = Double.compare( leftSide, rightSide );
+
+            switch ( operator )
+            {
+            case equal_to:
+                return comparison == 0;
+            case not_equal_to:
+                return comparison != 0;
+            case greater_than:
+                return comparison > 0;
+            case greater_than_or_equal_to:
+                return comparison >= 0;
+            case less_than:
+                return comparison < 0;
+            case less_than_or_equal_to:
+                return comparison <= 0;
+            default:
+                throw new IllegalArgumentException( "Unsupported operator: " + operator );
+            }
         }
 
         /**
@@ -358,6 +381,33 @@ public class DataValidationRunner
                 dataMap.putMap(
                     getAnalyticsMap( orgUnits, false, periodTypeX.getEventItemsWithoutAttributeOptions() ) );
             }
+
+            addNonAocValues( dataMap );
+            addNonAocValues( slidingWindowDataMap );
+        }
+
+        /**
+         * Adds the values which are not stored by attribute option combo to
+         * the values of each attribute option combo of the same organisation
+         * unit. This is done once after fetching the data rather than for
+         * every expression evaluated.
+         */
+        private void addNonAocValues( MapMapMap<Long, String, DimensionalItemObject, Object> map )
+        {
+            for ( MapMap<String, DimensionalItemObject, Object> valueMap : map.values() )
+            {
+                Map<DimensionalItemObject, Object> nonAocValues = valueMap.get( NON_AOC );
+
+                if ( nonAocValues != null )
+                {
+                    valueMap.forEach( ( aoc, values ) -> {
+                        if ( values != nonAocValues )
+                        {
+                            values.putAll( nonAocValues );
+                        }
+                    } );
+                }
+            }
         }
 
         private MapMap<String, DimensionalItemObject, Object> getValueMap( OrganisationUnit orgUnit,
@@ -459,17 +509,10 @@ public class DataValidationRunner
                 return expressionValueMap;
             }
 
-            Map<DimensionalItemObject, Object> nonAocValues = valueMap.get( NON_AOC );
-
             for ( Map.Entry<String, Map<DimensionalItemObject, Object>> entry : valueMap.entrySet() )
             {
                 Map<DimensionalItemObject, Object> values = entry.getValue();
 
-                if ( nonAocValues != null )
-                {
-                    values.putAll( nonAocValues );
-                }
-
                 Double value = castDouble(
                     expressionService.getExpressionValue( context.getBaseExParams().toBuilder()
                         .expression( expression.getExpression() )
@@ -27,6 +27,7 @@
  */
 package org.hisp.dhis.validation;
 
+import static java.util.stream.Collectors.toList;
 import static org.hisp.dhis.expression.ParseType.VALIDATION_RULE_EXPRESSION;
 import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_STAGE;
 
@@ -245,12 +246,31 @@ public class DefaultValidationService implements ValidationService
     {
         User currentUser = currentUserService.getCurrentUser();
 
-        Map<PeriodType, PeriodTypeExtended> periodTypeXMap = getExtendedPeriods( parameters );
+        Collection<ValidationRule> rules = parameters.getValidationRules();
 
-        ExpressionParams baseExParams = getExpressionInfo( periodTypeXMap, parameters.getValidationRules() );
+        List<OrganisationUnit> orgUnits = getOrganisationUnits( parameters );
+
+        if ( parameters.getLastUpdated() != null )
+        {
+            SetMap<Long, String> updates = dataValueService
+                .getDataElementUidsByOrgUnitLastUpdatedAfter( parameters.getLastUpdated() );
+
+            rules = getUpdatedRules( rules, updates );
+
+            if ( rules.stream().allMatch( this::isDataValueRule ) )
+            {
+                orgUnits = orgUnits.stream()
+                    .filter( ou -> updates.containsKey( ou.getId() ) )
+                    .collect( toList() );
+            }
+        }
+
+        Map<PeriodType, PeriodTypeExtended> periodTypeXMap = getExtendedPeriods( parameters.getPeriods(), rules );
+
+        ExpressionParams baseExParams = getExpressionInfo( periodTypeXMap, rules );
 
         ValidationRunContext.Builder builder = ValidationRunContext.newBuilder()
-            .withOrgUnits( getOrganisationUnits( parameters ) )
+            .withOrgUnits( orgUnits )
             .withPeriodTypeXs( new ArrayList<>( periodTypeXMap.values() ) )
             .withSendNotifications( parameters.isSendNotifications() )
             .withPersistResults( parameters.isPersistResults() )
@@ -269,20 +289,60 @@ public class DefaultValidationService implements ValidationService
 
         List<ValidationResult> initialResults = validationResultService
             .getValidationResults( parameters.getOrgUnit(),
-                parameters.isIncludeOrgUnitDescendants(), parameters.getValidationRules(),
+                parameters.isIncludeOrgUnitDescendants(), rules,
                 parameters.getPeriods() );
         return builder.build()
             .addInitialResults( initialResults );
     }
 
-    private Map<PeriodType, PeriodTypeExtended> getExtendedPeriods(
-        ValidationAnalysisParams parameters )
+    /**
+     * Returns the rules which may be affected by the given data value updates.
+     * A rule is affected if it refers to an updated data element. Rules which
+     * refer to items not stored as data values, such as indicators and program
+     * items, cannot be traced to data value updates and are always included.
+     *
+     * @param rules the validation rules to analyse.
+     * @param updates the updated data element UIDs by organisation unit ID.
+     * @return the affected validation rules.
+     */
+    private List<ValidationRule> getUpdatedRules( Collection<ValidationRule> rules,
+        SetMap<Long, String> updates )
+    {
+        Set<String> updatedDataElementUids = new HashSet<>();
+
+        updates.values().forEach( updatedDataElementUids::addAll );
+
+        return rules.stream()
+            .filter( rule -> !isDataValueRule( rule ) || getItemIds( rule ).stream()
+                .anyMatch( itemId -> updatedDataElementUids.contains( itemId.getId0() ) ) )
+            .collect( toList() );
+    }
+
+    /**
+     * Indicates whether all items of the given rule are data elements or data
+     * element operands, which are stored as data values.
+     */
+    private boolean isDataValueRule( ValidationRule rule )
+    {
+        return getItemIds( rule ).stream().allMatch( DimensionalItemId::isDataElementOrOperand );
+    }
+
+    private Set<DimensionalItemId> getItemIds( ValidationRule rule )
+    {
+        ExpressionInfo expressionInfo = new ExpressionInfo();
+
+        return Sets.union( addToExpressionInfo( expressionInfo, rule.getLeftSide() ),
+            addToExpressionInfo( expressionInfo, rule.getRightSide() ) );
+    }
+
+    private Map<PeriodType, PeriodTypeExtended> getExtendedPeriods( Collection<Period> periods,
+        Collection<ValidationRule> rules )
     {
         Map<PeriodType, PeriodTypeExtended> byType = new HashMap<>();
 
-        addPeriodsToContext( byType, parameters.getPeriods() );
+        addPeriodsToContext( byType, periods );
 
-        setRulesAndSlidingWindows( byType, parameters.getValidationRules() );
+        setRulesAndSlidingWindows( byType, rules );
 
         removeAnyUnneededPeriodTypes( byType );
         return byType;
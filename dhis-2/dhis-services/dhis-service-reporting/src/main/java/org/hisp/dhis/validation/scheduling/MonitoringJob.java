@@ -30,6 +30,7 @@ package org.hisp.dhis.validation.scheduling;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 import static org.hisp.dhis.util.DateUtils.addDays;
+import static org.hisp.dhis.util.DateUtils.nowMinusDuration;
 
 import java.util.Collection;
 import java.util.Date;
@@ -103,6 +104,9 @@ public class MonitoringJob implements Job
                 .withMaxResults( ValidationService.MAX_SCHEDULED_ALERTS )
                 .withSendNotifications( params.isSendNotifications() )
                 .withPersistResults( params.isPersistResults() )
+                .withLastUpdated( params.hasLastUpdatedDuration()
+                    ? nowMinusDuration( params.getLastUpdatedDuration() )
+                    : null )
                 .build();
 
             validationService.validationAnalysis( parameters, progress );
@@ -36,7 +36,6 @@ import static org.hisp.dhis.DhisConvenienceTest.createExpression2;
 import static org.hisp.dhis.DhisConvenienceTest.createOrganisationUnit;
 import static org.hisp.dhis.DhisConvenienceTest.createPeriod;
 import static org.hisp.dhis.DhisConvenienceTest.createValidationRule;
-import static org.hisp.dhis.expression.ParseType.SIMPLE_TEST;
 import static org.hisp.dhis.expression.ParseType.VALIDATION_RULE_EXPRESSION;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -179,10 +178,6 @@ class DataValidationRunnerTest
         mockExpressionService( leftExpression, vals, 8.4 );
         mockExpressionService( rightExpression, vals, -10.0 );
 
-        when( expressionService.getExpressionValue( ExpressionParams.builder()
-            .expression( "8.4!=-10.0" ).parseType( SIMPLE_TEST ).build() ) )
-                .thenReturn( true );
-
         subject.run( organisationUnits, ctx );
 
         assertThat( ctx.getValidationResults().size(), is( 0 ) );
@@ -28,19 +28,34 @@
 package org.hisp.dhis.tracker.job;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.jms.JMSException;
 import javax.jms.TextMessage;
 
+import lombok.extern.slf4j.Slf4j;
+
 import org.hisp.dhis.artemis.MessageManager;
+import org.hisp.dhis.artemis.config.ArtemisMode;
 import org.hisp.dhis.common.AsyncTaskExecutor;
 import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.render.RenderService;
+import org.hisp.dhis.tracker.sideeffect.TrackerRuleEngineSideEffect;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 /**
  * @author Zubair Asghar
  */
+@Slf4j
 @Component
 public abstract class BaseMessageManager
 {
@@ -50,14 +65,25 @@ public abstract class BaseMessageManager
 
     private final RenderService renderService;
 
+    private final DhisConfigurationProvider config;
+
+    /**
+     * Number of jobs sent to the embedded queue by this node which have not
+     * yet completed. A job is pending from the moment it is sent until the
+     * executor has run it.
+     */
+    private final AtomicLong pendingJobs = new AtomicLong();
+
     public BaseMessageManager(
         MessageManager messageManager,
         AsyncTaskExecutor taskExecutor,
-        RenderService renderService )
+        RenderService renderService,
+        DhisConfigurationProvider config )
     {
         this.messageManager = messageManager;
         this.taskExecutor = taskExecutor;
         this.renderService = renderService;
+        this.config = config;
     }
 
     public String addJob( TrackerSideEffectDataBundle sideEffectDataBundle )
@@ -67,22 +93,198 @@ public abstract class BaseMessageManager
 
         messageManager.sendQueue( getTopic(), sideEffectDataBundle );
 
+        if ( isEmbeddedQueue() )
+        {
+            pendingJobs.incrementAndGet();
+        }
+
         return jobId;
     }
 
+    /**
+     * Adds jobs for the given bundles. Bundles targeting the same object are
+     * coalesced into a single job. While the number of pending jobs exceeds
+     * {@link ConfigurationKey#TRACKER_SIDE_EFFECTS_MAX_PENDING}, bundles are
+     * not queued but run on the calling thread. This slows the import down in
+     * proportion to the backlog without blocking it.
+     *
+     * @param sideEffectDataBundles the bundles to add jobs for.
+     * @return the identifiers of the added jobs.
+     */
+    public List<String> addJobs( List<TrackerSideEffectDataBundle> sideEffectDataBundles )
+    {
+        long maxPendingJobs = Long.parseLong( config.getProperty( ConfigurationKey.TRACKER_SIDE_EFFECTS_MAX_PENDING ) );
+        boolean embeddedQueue = isEmbeddedQueue();
+
+        List<String> jobIds = new ArrayList<>();
+
+        for ( TrackerSideEffectDataBundle bundle : coalesce( sideEffectDataBundles ) )
+        {
+            if ( embeddedQueue && pendingJobs.get() >= maxPendingJobs )
+            {
+                jobIds.add( runJob( bundle ) );
+            }
+            else
+            {
+                jobIds.add( addJob( bundle ) );
+            }
+        }
+
+        return jobIds;
+    }
+
+    /**
+     * Runs the job of a consumed message on the task executor. The job stops
+     * being pending once it has completed.
+     */
     public void executeJob( Runnable runnable )
     {
-        taskExecutor.executeTask( runnable );
+        try
+        {
+            taskExecutor.executeTask( () -> {
+                try
+                {
+                    runnable.run();
+                }
+                finally
+                {
+                    releaseJob();
+                }
+            } );
+        }
+        catch ( RuntimeException ex )
+        {
+            releaseJob();
+            throw ex;
+        }
     }
 
+    /**
+     * Reads the bundle of a consumed message. A message without a bundle stops
+     * being pending right away as no job is run for it.
+     */
     public TrackerSideEffectDataBundle toBundle( TextMessage message )
         throws JMSException,
         IOException
     {
         String payload = message.getText();
 
-        return renderService.fromJson( payload, TrackerSideEffectDataBundle.class );
+        TrackerSideEffectDataBundle bundle = renderService.fromJson( payload, TrackerSideEffectDataBundle.class );
+
+        if ( bundle == null )
+        {
+            releaseJob();
+        }
+
+        return bundle;
+    }
+
+    /**
+     * @return the number of jobs sent to the embedded queue by this node which
+     *         have not yet completed.
+     */
+    public long getPendingJobs()
+    {
+        return pendingJobs.get();
     }
 
     public abstract String getTopic();
+
+    /**
+     * Creates the job implementing the side effects of the given bundle.
+     *
+     * @param bundle the bundle to implement.
+     * @return the job to run.
+     */
+    protected abstract Runnable createJob( TrackerSideEffectDataBundle bundle );
+
+    /**
+     * Pending jobs are only counted for the embedded broker, where this node
+     * consumes the messages it sends. With an external broker messages may be
+     * consumed by other nodes, so this node can not tell when they complete.
+     */
+    private boolean isEmbeddedQueue()
+    {
+        return ArtemisMode.EMBEDDED.name().equalsIgnoreCase( config.getProperty( ConfigurationKey.ARTEMIS_MODE ) );
+    }
+
+    private void releaseJob()
+    {
+        pendingJobs.updateAndGet( pending -> Math.max( 0, pending - 1 ) );
+    }
+
+    /**
+     * Runs the job of the given bundle on the calling thread, restoring the
+     * security context of the caller afterwards.
+     */
+    private String runJob( TrackerSideEffectDataBundle bundle )
+    {
+        String jobId = CodeGenerator.generateUid();
+        bundle.setJobId( jobId );
+
+        log.debug( "Side effect queue '{}' has {} pending jobs, running job {} on the calling thread", getTopic(),
+            pendingJobs.get(), jobId );
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        try
+        {
+            createJob( bundle ).run();
+        }
+        finally
+        {
+            SecurityContextHolder.setContext( securityContext );
+        }
+
+        return jobId;
+    }
+
+    /**
+     * Merges bundles targeting the same object, keeping the order in which the
+     * objects first appear. The rule effects of merged bundles are combined.
+     */
+    private List<TrackerSideEffectDataBundle> coalesce( List<TrackerSideEffectDataBundle> sideEffectDataBundles )
+    {
+        Map<String, TrackerSideEffectDataBundle> bundlesByObject = new LinkedHashMap<>();
+
+        for ( TrackerSideEffectDataBundle bundle : sideEffectDataBundles )
+        {
+            if ( bundle.getObject() == null )
+            {
+                bundlesByObject.put( CodeGenerator.generateUid(), bundle );
+                continue;
+            }
+
+            bundlesByObject.merge( bundle.getKlass() + ":" + bundle.getObject(), bundle, BaseMessageManager::merge );
+        }
+
+        return new ArrayList<>( bundlesByObject.values() );
+    }
+
+    static TrackerSideEffectDataBundle merge( TrackerSideEffectDataBundle existing,
+        TrackerSideEffectDataBundle bundle )
+    {
+        existing.setEnrollmentRuleEffects(
+            mergeRuleEffects( existing.getEnrollmentRuleEffects(), bundle.getEnrollmentRuleEffects() ) );
+
+        existing.setEventRuleEffects(
+            mergeRuleEffects( existing.getEventRuleEffects(), bundle.getEventRuleEffects() ) );
+
+        return existing;
+    }
+
+    /**
+     * Combines the rule effects of both maps, concatenating the effects of
+     * keys present in both.
+     */
+    private static Map<String, List<TrackerRuleEngineSideEffect>> mergeRuleEffects(
+        Map<String, List<TrackerRuleEngineSideEffect>> existing, Map<String, List<TrackerRuleEngineSideEffect>> other )
+    {
+        Map<String, List<TrackerRuleEngineSideEffect>> merged = new HashMap<>();
+
+        existing.forEach( ( key, effects ) -> merged.computeIfAbsent( key, k -> new ArrayList<>() ).addAll( effects ) );
+        other.forEach( ( key, effects ) -> merged.computeIfAbsent( key, k -> new ArrayList<>() ).addAll( effects ) );
+
+        return merged;
+    }
 }
@@ -35,6 +35,7 @@ import javax.jms.TextMessage;
 import org.hisp.dhis.artemis.MessageManager;
 import org.hisp.dhis.artemis.Topics;
 import org.hisp.dhis.common.AsyncTaskExecutor;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.render.RenderService;
 import org.hisp.dhis.scheduling.JobConfiguration;
 import org.hisp.dhis.scheduling.JobType;
@@ -56,9 +57,10 @@ public class TrackerRuleEngineMessageManager extends BaseMessageManager
         MessageManager messageManager,
         AsyncTaskExecutor taskExecutor,
         RenderService renderService,
+        DhisConfigurationProvider config,
         ObjectFactory<TrackerRuleEngineThread> trackerRuleEngineThreadObjectFactory )
     {
-        super( messageManager, taskExecutor, renderService );
+        super( messageManager, taskExecutor, renderService, config );
         this.trackerRuleEngineThreadObjectFactory = trackerRuleEngineThreadObjectFactory;
     }
 
@@ -80,6 +82,12 @@ public class TrackerRuleEngineMessageManager extends BaseMessageManager
             return;
         }
 
+        executeJob( createJob( bundle ) );
+    }
+
+    @Override
+    protected Runnable createJob( TrackerSideEffectDataBundle bundle )
+    {
         JobConfiguration jobConfiguration = new JobConfiguration( "", JobType.TRACKER_IMPORT_RULE_ENGINE_JOB,
             bundle.getAccessedBy(), true );
 
@@ -89,6 +97,6 @@ public class TrackerRuleEngineMessageManager extends BaseMessageManager
 
         notificationThread.setSideEffectDataBundle( bundle );
 
-        executeJob( notificationThread );
+        return notificationThread;
     }
 }
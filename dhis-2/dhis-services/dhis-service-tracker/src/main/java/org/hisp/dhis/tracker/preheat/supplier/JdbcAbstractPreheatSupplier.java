@@ -27,12 +27,26 @@
  */
 package org.hisp.dhis.tracker.preheat.supplier;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
 
 /**
  * Allows a {@link PreheatSupplier} to access the database using JDBC.
+ * <p>
+ * Identifier collections should be bound as a single array parameter using
+ * {@link #textArray(Collection)} or {@link #bigintArray(Collection)} and
+ * matched with {@code = any (:param)}. Unlike an expanded {@code in (...)}
+ * list, this results in one statement with a fixed text regardless of the
+ * number of identifiers, so the payload does not have to be partitioned and
+ * the database does not have to parse and plan a new statement per size.
  *
  * @author Luciano Fiandesio
  */
@@ -44,4 +58,27 @@ public abstract class JdbcAbstractPreheatSupplier extends AbstractPreheatSupplie
     {
         this.jdbcTemplate = new NamedParameterJdbcTemplate( jdbcTemplate );
     }
+
+    protected static SqlParameterValue textArray( Collection<String> values )
+    {
+        return array( "text", values );
+    }
+
+    protected static SqlParameterValue bigintArray( Collection<Long> values )
+    {
+        return array( "bigint", values );
+    }
+
+    private static SqlParameterValue array( String elementType, Collection<?> values )
+    {
+        return new SqlParameterValue( Types.ARRAY, new AbstractSqlTypeValue()
+        {
+            @Override
+            protected Object createTypeValue( Connection connection, int sqlType, String typeName )
+                throws SQLException
+            {
+                return connection.createArrayOf( elementType, values.toArray() );
+            }
+        } );
+    }
 }
@@ -58,7 +58,7 @@ public class ProgramInstancesWithAtLeastOneEventSupplier extends JdbcAbstractPre
         "from programstageinstance " +
         "where programinstance.programinstanceid = programstageinstance.programinstanceid " +
         "and programinstance.deleted = false) " +
-        "and programinstanceid in (:ids)";
+        "and programinstanceid = any (:ids)";
 
     protected ProgramInstancesWithAtLeastOneEventSupplier( JdbcTemplate jdbcTemplate )
     {
@@ -77,7 +77,7 @@ public class ProgramInstancesWithAtLeastOneEventSupplier extends JdbcAbstractPre
             List<String> uids = new ArrayList<>();
 
             MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue( "ids", programStageIds );
+            parameters.addValue( "ids", bigintArray( programStageIds ) );
             jdbcTemplate.query( SQL, parameters, rs -> {
                 uids.add( rs.getString( COLUMN ) );
             } );
@@ -77,10 +77,10 @@ public class ProgramOrgUnitsSupplier extends JdbcAbstractPreheatSupplier
             "FROM program_organisationunits po " +
             "JOIN program p ON po.programid=p.programid " +
             "JOIN organisationunit ou ON po.organisationunitid=ou.organisationunitid " +
-            "WHERE po.organisationunitid IN ( :ids )";
+            "WHERE po.organisationunitid = ANY ( :ids )";
 
         MapSqlParameterSource parameters = new MapSqlParameterSource();
-        parameters.addValue( "ids", orgUnitIds );
+        parameters.addValue( "ids", bigintArray( orgUnitIds ) );
 
         preheat.setProgramWithOrgUnitsMap( jdbcTemplate.query( sql, parameters, rs -> {
             Map<String, List<String>> map = new HashMap<>();
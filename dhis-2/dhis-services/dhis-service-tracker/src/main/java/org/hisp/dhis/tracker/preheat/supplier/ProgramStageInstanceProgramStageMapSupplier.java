@@ -63,8 +63,8 @@ public class ProgramStageInstanceProgramStageMapSupplier
         " where psi.deleted = false " +
         " and psi.status != 'SKIPPED' " +
         " and ps.programstageid = psi.programstageid " +
-        " and ps.uid in (:programStageUids) " +
-        " and pi.uid in (:programInstanceUids) ";
+        " and ps.uid = any (:programStageUids) " +
+        " and pi.uid = any (:programInstanceUids) ";
 
     protected ProgramStageInstanceProgramStageMapSupplier( JdbcTemplate jdbcTemplate )
     {
@@ -98,8 +98,8 @@ public class ProgramStageInstanceProgramStageMapSupplier
         if ( !notRepeatableProgramStageUids.isEmpty() && !programInstanceUids.isEmpty() )
         {
             MapSqlParameterSource parameters = new MapSqlParameterSource();
-            parameters.addValue( "programStageUids", notRepeatableProgramStageUids );
-            parameters.addValue( "programInstanceUids", programInstanceUids );
+            parameters.addValue( "programStageUids", textArray( notRepeatableProgramStageUids ) );
+            parameters.addValue( "programInstanceUids", textArray( programInstanceUids ) );
             jdbcTemplate.query( SQL, parameters, (RowCallbackHandler) rs -> preheat
                 .addProgramStageWithEvents( rs.getString( PS_UID ), rs.getString( PI_UID ) ) );
         }
@@ -28,9 +28,11 @@
 package org.hisp.dhis.tracker.preheat.supplier;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.hisp.dhis.common.BaseIdentifiableObject;
@@ -40,13 +42,10 @@ import org.hisp.dhis.program.ProgramStatus;
 import org.hisp.dhis.tracker.TrackerImportParams;
 import org.hisp.dhis.tracker.domain.Enrollment;
 import org.hisp.dhis.tracker.preheat.TrackerPreheat;
-import org.hisp.dhis.tracker.util.Constant;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
 
-import com.google.common.collect.Lists;
-
 /**
  * Adds to the preheat a Map of Tracked Entities to related Program Instances
  *
@@ -80,8 +79,8 @@ public class TrackedEntityProgramInstanceSupplier extends JdbcAbstractPreheatSup
         " join trackedentityinstance tei on pi.trackedentityinstanceid = tei.trackedentityinstanceid " +
         " join program pr on pr.programid = pi.programid " +
         " where pi.deleted = false " +
-        " and tei.uid in (:teuids)" +
-        " and pr.uid in (:pruids)";
+        " and tei.uid = any (:teuids)" +
+        " and pr.uid = any (:pruids)";
 
     protected TrackedEntityProgramInstanceSupplier( JdbcTemplate jdbcTemplate )
     {
@@ -91,37 +90,31 @@ public class TrackedEntityProgramInstanceSupplier extends JdbcAbstractPreheatSup
     @Override
     public void preheatAdd( TrackerImportParams params, TrackerPreheat preheat )
     {
-        List<String> trackedEntityList = params.getEnrollments().stream().map( Enrollment::getTrackedEntity )
-            .collect( Collectors.toList() );
+        if ( params.getEnrollments().isEmpty() )
+            return;
+
+        Set<String> trackedEntities = params.getEnrollments().stream().map( Enrollment::getTrackedEntity )
+            .collect( Collectors.toSet() );
 
         List<String> programList = preheat.getAll( Program.class ).stream().map( BaseIdentifiableObject::getUid )
             .collect( Collectors.toList() );
 
-        List<List<String>> teiList = Lists.partition( new ArrayList<>( trackedEntityList ),
-            Constant.SPLIT_LIST_PARTITION_SIZE );
-
-        if ( programList.isEmpty() || teiList.isEmpty() )
+        if ( programList.isEmpty() || trackedEntities.isEmpty() )
             return;
 
         Map<String, List<ProgramInstance>> trackedEntityToProgramInstanceMap = new HashMap<>();
 
-        if ( params.getEnrollments().isEmpty() )
-            return;
-
-        for ( List<String> trackedEntityListSubList : teiList )
-        {
-            queryTeiAndAddToMap( trackedEntityToProgramInstanceMap, trackedEntityListSubList, programList );
-        }
+        queryTeiAndAddToMap( trackedEntityToProgramInstanceMap, trackedEntities, programList );
 
         preheat.setTrackedEntityToProgramInstanceMap( trackedEntityToProgramInstanceMap );
     }
 
     private void queryTeiAndAddToMap( Map<String, List<ProgramInstance>> trackedEntityToProgramInstanceMap,
-        List<String> trackedEntityListSubList, List<String> programList )
+        Collection<String> trackedEntities, List<String> programList )
     {
         MapSqlParameterSource parameters = new MapSqlParameterSource();
-        parameters.addValue( "teuids", trackedEntityListSubList );
-        parameters.addValue( "pruids", programList );
+        parameters.addValue( "teuids", textArray( trackedEntities ) );
+        parameters.addValue( "pruids", textArray( programList ) );
 
         jdbcTemplate.query( SQL, parameters, resultSet -> {
             String tei = resultSet.getString( TEI_UID_COLUMN_ALIAS );
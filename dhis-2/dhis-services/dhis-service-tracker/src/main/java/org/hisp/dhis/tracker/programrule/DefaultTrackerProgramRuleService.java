@@ -28,6 +28,7 @@
 package org.hisp.dhis.tracker.programrule;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +43,7 @@ import org.hisp.dhis.program.Program;
 import org.hisp.dhis.program.ProgramInstance;
 import org.hisp.dhis.program.ProgramStageInstance;
 import org.hisp.dhis.programrule.engine.ProgramRuleEngine;
+import org.hisp.dhis.programrule.engine.RuleEngineEnrollmentInput;
 import org.hisp.dhis.rules.models.RuleEffects;
 import org.hisp.dhis.trackedentity.TrackedEntityInstance;
 import org.hisp.dhis.trackedentityattributevalue.TrackedEntityAttributeValue;
@@ -84,7 +86,8 @@ public class DefaultTrackerProgramRuleService
     /**
      * This method is calling rule engine for every enrollment and all the
      * linked events, for all events linked to an enrollment not present in the
-     * payload and for all the program events.
+     * payload and for all the program events. Enrollments of the same program
+     * are evaluated together as one batch.
      *
      * @param bundle The bundle to build the context for rule engine
      * @return A list of rule effects for every enrollment and event present in
@@ -94,18 +97,22 @@ public class DefaultTrackerProgramRuleService
     @Transactional( readOnly = true )
     public List<RuleEffects> calculateRuleEffects( TrackerBundle bundle )
     {
-        Stream<RuleEffects> enrollmentStream = bundle.getEnrollments()
+        Map<Program, List<RuleEngineEnrollmentInput>> inputsByProgram = bundle.getEnrollments()
             .stream()
-            .flatMap( e -> {
+            .map( e -> {
                 ProgramInstance enrollment = enrollmentTrackerConverterService.fromForRuleEngine( bundle.getPreheat(),
                     e );
 
-                return programRuleEngine
-                    .evaluateEnrollmentAndEvents( enrollment,
-                        getEventsFromEnrollment( enrollment.getUid(), bundle ),
-                        getAttributes( e, bundle ) )
-                    .stream();
-            } );
+                return new RuleEngineEnrollmentInput( enrollment,
+                    getEventsFromEnrollment( enrollment.getUid(), bundle ), getAttributes( e, bundle ) );
+            } )
+            .collect( Collectors.groupingBy( i -> i.getEnrollment().getProgram(), LinkedHashMap::new,
+                Collectors.toList() ) );
+
+        Stream<RuleEffects> enrollmentStream = inputsByProgram.entrySet()
+            .stream()
+            .flatMap( entry -> programRuleEngine.evaluateEnrollmentsAndEvents( entry.getKey(), entry.getValue() )
+                .stream() );
 
         return Stream.concat(
             enrollmentStream,
@@ -28,7 +28,6 @@
 package org.hisp.dhis.tracker.job;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doNothing;
@@ -39,6 +38,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import javax.jms.JMSException;
 import javax.jms.TextMessage;
@@ -46,7 +47,11 @@ import javax.jms.TextMessage;
 import org.hisp.dhis.artemis.MessageManager;
 import org.hisp.dhis.artemis.Topics;
 import org.hisp.dhis.common.AsyncTaskExecutor;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.program.ProgramInstance;
 import org.hisp.dhis.render.RenderService;
+import org.hisp.dhis.tracker.sideeffect.TrackerRuleEngineSideEffect;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -73,6 +78,9 @@ class TrackerNotificationMessageManagerTest
     @Mock
     private RenderService renderService;
 
+    @Mock
+    private DhisConfigurationProvider config;
+
     @Mock
     private TextMessage textMessage;
 
@@ -109,6 +117,27 @@ class TrackerNotificationMessageManagerTest
         assertEquals( dataBundle, bundleArgumentCaptor.getValue() );
     }
 
+    @Test
+    void test_add_jobs_coalesces_bundles_of_same_object()
+    {
+        doNothing().when( messageManager ).sendQueue( anyString(), any( TrackerSideEffectDataBundle.class ) );
+        when( config.getProperty( ConfigurationKey.TRACKER_SIDE_EFFECTS_MAX_PENDING ) ).thenReturn( "10000" );
+        when( config.getProperty( ConfigurationKey.ARTEMIS_MODE ) ).thenReturn( "EMBEDDED" );
+
+        TrackerSideEffectDataBundle first = TrackerSideEffectDataBundle.builder().klass( ProgramInstance.class )
+            .object( "enrollment-1" ).build();
+        TrackerSideEffectDataBundle duplicate = TrackerSideEffectDataBundle.builder().klass( ProgramInstance.class )
+            .object( "enrollment-1" ).build();
+        TrackerSideEffectDataBundle other = TrackerSideEffectDataBundle.builder().klass( ProgramInstance.class )
+            .object( "enrollment-2" ).build();
+
+        List<String> jobIds = trackerNotificationMessageManager.addJobs( List.of( first, duplicate, other ) );
+
+        assertEquals( 2, jobIds.size() );
+        assertEquals( 2, trackerNotificationMessageManager.getPendingJobs() );
+        verify( messageManager, times( 2 ) ).sendQueue( anyString(), any( TrackerSideEffectDataBundle.class ) );
+    }
+
     @Test
     void test_message_consumer()
         throws JMSException,
@@ -130,6 +159,84 @@ class TrackerNotificationMessageManagerTest
 
         Mockito.verify( taskExecutor ).executeTask( runnableCaptor.capture() );
 
-        assertTrue( runnableCaptor.getValue() instanceof TrackerNotificationThread );
+        runnableCaptor.getValue().run();
+
+        verify( trackerNotificationThread ).setSideEffectDataBundle( bundle );
+        verify( trackerNotificationThread ).run();
+    }
+
+    @Test
+    void test_add_jobs_runs_jobs_on_calling_thread_when_queue_is_full()
+    {
+        doNothing().when( messageManager ).sendQueue( anyString(), any( TrackerSideEffectDataBundle.class ) );
+        when( config.getProperty( ConfigurationKey.TRACKER_SIDE_EFFECTS_MAX_PENDING ) ).thenReturn( "1" );
+        when( config.getProperty( ConfigurationKey.ARTEMIS_MODE ) ).thenReturn( "EMBEDDED" );
+        when( objectFactory.getObject() ).thenReturn( trackerNotificationThread );
+
+        TrackerSideEffectDataBundle queued = TrackerSideEffectDataBundle.builder().klass( ProgramInstance.class )
+            .object( "enrollment-1" ).build();
+        TrackerSideEffectDataBundle inline = TrackerSideEffectDataBundle.builder().klass( ProgramInstance.class )
+            .object( "enrollment-2" ).build();
+
+        List<String> jobIds = trackerNotificationMessageManager.addJobs( List.of( queued, inline ) );
+
+        assertEquals( 2, jobIds.size() );
+        assertEquals( 1, trackerNotificationMessageManager.getPendingJobs() );
+        verify( messageManager ).sendQueue( anyString(), eq( queued ) );
+        verify( trackerNotificationThread ).setSideEffectDataBundle( inline );
+        verify( trackerNotificationThread ).run();
+    }
+
+    @Test
+    void test_pending_jobs_are_released_when_job_completes()
+        throws JMSException,
+        IOException
+    {
+        TrackerSideEffectDataBundle bundle = TrackerSideEffectDataBundle.builder().accessedBy( "test-user" ).build();
+
+        doNothing().when( messageManager ).sendQueue( anyString(), any( TrackerSideEffectDataBundle.class ) );
+        when( config.getProperty( ConfigurationKey.ARTEMIS_MODE ) ).thenReturn( "EMBEDDED" );
+        when( textMessage.getText() ).thenReturn( "text" );
+        when( objectFactory.getObject() ).thenReturn( trackerNotificationThread );
+        doReturn( bundle ).when( renderService ).fromJson( anyString(), eq( TrackerSideEffectDataBundle.class ) );
+
+        trackerNotificationMessageManager.addJob( bundle );
+        trackerNotificationMessageManager.addJob( bundle );
+        assertEquals( 2, trackerNotificationMessageManager.getPendingJobs() );
+
+        trackerNotificationMessageManager.consume( textMessage );
+
+        verify( taskExecutor ).executeTask( runnableCaptor.capture() );
+        assertEquals( 2, trackerNotificationMessageManager.getPendingJobs() );
+
+        runnableCaptor.getValue().run();
+        assertEquals( 1, trackerNotificationMessageManager.getPendingJobs() );
+
+        doReturn( null ).when( renderService ).fromJson( anyString(), eq( TrackerSideEffectDataBundle.class ) );
+        trackerNotificationMessageManager.consume( textMessage );
+        assertEquals( 0, trackerNotificationMessageManager.getPendingJobs() );
+    }
+
+    @Test
+    void test_merge_concatenates_rule_effects_of_same_key()
+    {
+        TrackerRuleEngineSideEffect effectA = () -> "A";
+        TrackerRuleEngineSideEffect effectB = () -> "B";
+        TrackerRuleEngineSideEffect effectC = () -> "C";
+
+        TrackerSideEffectDataBundle existing = TrackerSideEffectDataBundle.builder()
+            .enrollmentRuleEffects( Map.of( "enrollment-1", List.of( effectA ) ) )
+            .eventRuleEffects( Map.of( "event-1", List.of( effectA ) ) )
+            .build();
+        TrackerSideEffectDataBundle bundle = TrackerSideEffectDataBundle.builder()
+            .enrollmentRuleEffects( Map.of( "enrollment-1", List.of( effectB ) ) )
+            .eventRuleEffects( Map.of( "event-1", List.of( effectB ), "event-2", List.of( effectC ) ) )
+            .build();
+
+        TrackerSideEffectDataBundle merged = BaseMessageManager.merge( existing, bundle );
+
+        assertEquals( List.of( effectA, effectB ), merged.getEnrollmentRuleEffects().get( "enrollment-1" ) );
+        assertEquals( List.of( effectA, effectB ), merged.getEventRuleEffects().get( "event-1" ) );
+        assertEquals( List.of( effectC ), merged.getEventRuleEffects().get( "event-2" ) );
     }
 }
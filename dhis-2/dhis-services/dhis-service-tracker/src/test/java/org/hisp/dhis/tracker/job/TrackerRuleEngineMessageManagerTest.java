@@ -29,7 +29,6 @@ package org.hisp.dhis.tracker.job;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -47,6 +46,7 @@ import javax.jms.TextMessage;
 import org.hisp.dhis.artemis.MessageManager;
 import org.hisp.dhis.artemis.Topics;
 import org.hisp.dhis.common.AsyncTaskExecutor;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.render.RenderService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -74,6 +74,9 @@ class TrackerRuleEngineMessageManagerTest
     @Mock
     private RenderService renderService;
 
+    @Mock
+    private DhisConfigurationProvider config;
+
     @Mock
     private TextMessage textMessage;
 
@@ -132,6 +135,9 @@ class TrackerRuleEngineMessageManagerTest
 
         Mockito.verify( taskExecutor ).executeTask( runnableArgumentCaptor.capture() );
 
-        assertTrue( runnableArgumentCaptor.getValue() instanceof TrackerRuleEngineThread );
+        runnableArgumentCaptor.getValue().run();
+
+        verify( trackerRuleEngineThread ).setSideEffectDataBundle( bundle );
+        verify( trackerRuleEngineThread ).run();
     }
 }
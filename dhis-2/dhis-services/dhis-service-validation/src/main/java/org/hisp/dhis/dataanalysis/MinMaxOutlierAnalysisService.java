@@ -28,8 +28,10 @@
 package org.hisp.dhis.dataanalysis;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_ITEM_OUTLIER;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -37,19 +39,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.datavalue.DeflatedDataValue;
-import org.hisp.dhis.jdbc.batchhandler.MinMaxDataElementBatchHandler;
-import org.hisp.dhis.minmax.MinMaxDataElement;
+import org.hisp.dhis.commons.util.SystemUtils;
 import org.hisp.dhis.minmax.MinMaxDataElementService;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.period.Period;
-import org.hisp.dhis.system.util.MathUtils;
-import org.hisp.quick.BatchHandler;
-import org.hisp.quick.BatchHandlerFactory;
-import org.joda.time.DateTime;
+import org.hisp.dhis.scheduling.JobProgress;
 import org.springframework.stereotype.Service;
 
-import com.google.common.collect.Lists;
-
 /**
  * @author Lars Helge Overland
  */
@@ -64,20 +60,20 @@ public class MinMaxOutlierAnalysisService
 
     private final DataAnalysisStore dataAnalysisStore;
 
-    private final MinMaxDataElementService minMaxDataElementService;
+    private final DataValueStatisticsStore statisticsStore;
 
-    private final BatchHandlerFactory batchHandlerFactory;
+    private final MinMaxDataElementService minMaxDataElementService;
 
     public MinMaxOutlierAnalysisService( DataAnalysisStore dataAnalysisStore,
-        MinMaxDataElementService minMaxDataElementService, BatchHandlerFactory batchHandlerFactory )
+        DataValueStatisticsStore statisticsStore, MinMaxDataElementService minMaxDataElementService )
     {
         checkNotNull( dataAnalysisStore );
+        checkNotNull( statisticsStore );
         checkNotNull( minMaxDataElementService );
-        checkNotNull( batchHandlerFactory );
 
         this.dataAnalysisStore = dataAnalysisStore;
+        this.statisticsStore = statisticsStore;
         this.minMaxDataElementService = minMaxDataElementService;
-        this.batchHandlerFactory = batchHandlerFactory;
     }
 
     // -------------------------------------------------------------------------
@@ -106,63 +102,44 @@ public class MinMaxOutlierAnalysisService
 
     @Override
     public void generateMinMaxValues( OrganisationUnit parent, Collection<DataElement> dataElements,
-        Double stdDevFactor )
+        Double stdDevFactor, JobProgress progress )
     {
         log.info( "Starting min-max value generation, no of data elements: " + dataElements.size() + ", parent: "
             + parent.getUid() );
 
-        Date from = new DateTime( 1, 1, 1, 1, 1 ).toDate();
+        progress.startingProcess( "Generate min-max values" );
 
-        minMaxDataElementService.removeMinMaxDataElements( dataElements, parent );
+        progress.startingStage( "Generating data value statistics" );
+        progress.runStage( () -> statisticsStore.generateStatistics( dataElements ) );
 
-        log.debug( "Deleted existing min-max values" );
+        // Resolve up front as the work items run on other threads
 
-        List<String> parentPaths = Lists.newArrayList( parent.getPath() );
+        Map<DataElement, Set<CategoryOptionCombo>> categoryOptionCombos = dataElements.stream()
+            .collect( Collectors.toMap( de -> de, DataElement::getCategoryOptionCombos ) );
 
-        BatchHandler<MinMaxDataElement> batchHandler = batchHandlerFactory
-            .createBatchHandler( MinMaxDataElementBatchHandler.class ).init();
+        Map<String, String> pathPatterns = new LinkedHashMap<>();
+        pathPatterns.put( parent.getPath(), parent.getName() );
 
-        for ( DataElement dataElement : dataElements )
+        for ( OrganisationUnit child : parent.getChildren() )
         {
-            if ( dataElement.getValueType().isNumeric() )
-            {
-                Set<CategoryOptionCombo> categoryOptionCombos = dataElement.getCategoryOptionCombos();
-
-                List<DataAnalysisMeasures> measuresList = dataAnalysisStore.getDataAnalysisMeasures( dataElement,
-                    categoryOptionCombos, parentPaths, from );
-
-                for ( DataAnalysisMeasures measures : measuresList )
-                {
-                    int min = (int) Math.round(
-                        MathUtils.getLowBound( measures.getStandardDeviation(), stdDevFactor, measures.getAverage() ) );
-                    int max = (int) Math.round( MathUtils.getHighBound( measures.getStandardDeviation(), stdDevFactor,
-                        measures.getAverage() ) );
-
-                    switch ( dataElement.getValueType() )
-                    {
-                    case INTEGER_POSITIVE:
-                    case INTEGER_ZERO_OR_POSITIVE:
-                        min = Math.max( 0, min ); // Cannot be < 0
-                        break;
-                    case INTEGER_NEGATIVE:
-                        max = Math.min( 0, max ); // Cannot be > 0
-                        break;
-                    }
-
-                    OrganisationUnit orgUnit = new OrganisationUnit();
-                    orgUnit.setId( measures.getOrgUnitId() );
-
-                    CategoryOptionCombo categoryOptionCombo = new CategoryOptionCombo();
-                    categoryOptionCombo.setId( measures.getCategoryOptionComboId() );
-
-                    batchHandler.addObject(
-                        new MinMaxDataElement( dataElement, orgUnit, categoryOptionCombo, min, max, true ) );
-                }
-            }
+            pathPatterns.put( child.getPath() + "%", child.getName() );
         }
 
+        AtomicInteger generated = new AtomicInteger();
+
+        progress.startingStage( "Generating min-max values per org unit hierarchy", pathPatterns.size(),
+            SKIP_ITEM_OUTLIER );
+        progress.runStageInParallel( getParallelism( pathPatterns.size() ), pathPatterns.keySet(),
+            pathPatterns::get, pathPattern -> generated.addAndGet( minMaxDataElementService
+                .generateMinMaxDataElements( categoryOptionCombos, pathPattern, stdDevFactor ) ) );
+
+        progress.completedProcess( "Generated " + generated.get() + " min-max values" );
+
         log.info( "Min-max value generation done" );
+    }
 
-        batchHandler.flush();
+    private int getParallelism( int workItems )
+    {
+        return Math.min( Math.max( 1, SystemUtils.getCpuCores() / 2 ), workItems );
     }
 }
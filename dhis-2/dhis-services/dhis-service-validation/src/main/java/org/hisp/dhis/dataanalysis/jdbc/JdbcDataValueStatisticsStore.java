@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the HISP project nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.dataanalysis.jdbc;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.hisp.dhis.common.IdentifiableObjectUtils.getIdentifiers;
+import static org.hisp.dhis.commons.util.TextUtils.getCommaDelimitedString;
+import static org.hisp.dhis.commons.util.TextUtils.getQuotedCommaDelimitedString;
+
+import java.util.Collection;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.hisp.dhis.common.ValueType;
+import org.hisp.dhis.dataanalysis.DataValueStatisticsStore;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.jdbc.StatementBuilder;
+import org.hisp.dhis.system.util.MathUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Statistics are derived from the values of non-deleted data values of
+ * numeric data elements. Values which are not numeric are skipped. Statistics
+ * are regenerated from the data values committed at the time, so that they do
+ * not depend on the timestamps of data values or on how they were deleted. The
+ * variance is computed by the database with {@code var_pop}, which unlike the
+ * sum of squares does not lose precision for series with little spread.
+ */
+@Slf4j
+@Repository( "org.hisp.dhis.dataanalysis.DataValueStatisticsStore" )
+public class JdbcDataValueStatisticsStore implements DataValueStatisticsStore
+{
+    private final StatementBuilder statementBuilder;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcDataValueStatisticsStore( StatementBuilder statementBuilder, JdbcTemplate jdbcTemplate )
+    {
+        checkNotNull( statementBuilder );
+        checkNotNull( jdbcTemplate );
+
+        this.statementBuilder = statementBuilder;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void generateStatistics( Collection<DataElement> dataElements )
+    {
+        if ( dataElements.isEmpty() )
+        {
+            return;
+        }
+
+        lockStatistics();
+
+        String dataElementIds = getCommaDelimitedString( getIdentifiers( dataElements ) );
+
+        jdbcTemplate.update( "delete from datavaluestatistics where dataelementid in (" + dataElementIds + ")" );
+
+        int rows = jdbcTemplate.update( getInsertSql( dataElementIds ) );
+
+        log.debug( "Generated data value statistics for data elements, series: " + rows );
+    }
+
+    // -------------------------------------------------------------------------
+    // Supportive methods
+    // -------------------------------------------------------------------------
+
+    /**
+     * Serializes generation while allowing concurrent reads, which see the
+     * previous statistics until the generating transaction commits.
+     */
+    private void lockStatistics()
+    {
+        jdbcTemplate.execute( "lock table datavaluestatistics in share row exclusive mode" );
+    }
+
+    private String getInsertSql( String dataElementIds )
+    {
+        String value = "cast(dv.value as " + statementBuilder.getDoubleColumnType() + ")";
+
+        // @formatter:off
+        return
+            "insert into datavaluestatistics (dataelementid, sourceid, categoryoptioncomboid, " +
+                "attributeoptioncomboid, valuecount, valuesum, valuevariance) " +
+            "select dv.dataelementid, dv.sourceid, dv.categoryoptioncomboid, dv.attributeoptioncomboid, " +
+                "count(*), sum(" + value + "), var_pop(" + value + ") " +
+            "from datavalue dv " +
+            "inner join dataelement de on dv.dataelementid = de.dataelementid " +
+            "where de.valuetype in (" + getQuotedCommaDelimitedString( ValueType.NUMERIC_TYPES ) + ") " +
+            "and dv.value " + statementBuilder.getRegexpMatch() + " '" + MathUtils.NUMERIC_LENIENT_REGEXP + "' " +
+            "and dv.deleted is false " +
+            "and dv.dataelementid in (" + dataElementIds + ") " +
+            "group by dv.dataelementid, dv.sourceid, dv.categoryoptioncomboid, dv.attributeoptioncomboid";
+        // @formatter:on
+    }
+}
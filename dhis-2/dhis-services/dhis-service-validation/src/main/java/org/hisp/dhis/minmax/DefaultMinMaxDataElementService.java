@@ -29,6 +29,8 @@ package org.hisp.dhis.minmax;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import lombok.RequiredArgsConstructor;
 
@@ -128,4 +130,11 @@ public class DefaultMinMaxDataElementService
     {
         minMaxDataElementStore.delete( dataElements, parent );
     }
+
+    @Override
+    public int generateMinMaxDataElements( Map<DataElement, Set<CategoryOptionCombo>> categoryOptionCombos,
+        String pathPattern, double stdDevFactor )
+    {
+        return minMaxDataElementStore.generate( categoryOptionCombos, pathPattern, stdDevFactor );
+    }
 }
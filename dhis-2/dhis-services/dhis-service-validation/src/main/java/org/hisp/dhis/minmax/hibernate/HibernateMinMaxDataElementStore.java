@@ -28,10 +28,16 @@
 package org.hisp.dhis.minmax.hibernate;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.stream.Collectors.joining;
+import static org.hisp.dhis.common.IdentifiableObjectUtils.getIdentifiers;
+import static org.hisp.dhis.commons.util.TextUtils.getCommaDelimitedString;
+import static org.hisp.dhis.commons.util.TextUtils.getQuotedCommaDelimitedString;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Path;
@@ -41,6 +47,7 @@ import javax.persistence.criteria.Root;
 import org.hibernate.SessionFactory;
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.common.Pager;
+import org.hisp.dhis.common.ValueType;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.hibernate.HibernateGenericStore;
 import org.hisp.dhis.hibernate.JpaQueryParameters;
@@ -184,6 +191,84 @@ public class HibernateMinMaxDataElementStore
             .executeUpdate();
     }
 
+    @Override
+    public int generate( Map<DataElement, Set<CategoryOptionCombo>> categoryOptionCombos, String pathPattern,
+        double stdDevFactor )
+    {
+        if ( categoryOptionCombos.isEmpty() )
+        {
+            return 0;
+        }
+
+        String dataElementIds = getCommaDelimitedString( getIdentifiers( categoryOptionCombos.keySet() ) );
+
+        jdbcTemplate.update( "delete from minmaxdataelement " +
+            "where dataelementid in (" + dataElementIds + ") " +
+            "and sourceid in (select organisationunitid from organisationunit where path like ?)", pathPattern );
+
+        String series = categoryOptionCombos.entrySet().stream()
+            .flatMap( e -> e.getValue().stream().map( coc -> "(" + e.getKey().getId() + "," + coc.getId() + ")" ) )
+            .collect( joining( "," ) );
+
+        if ( series.isEmpty() )
+        {
+            return 0;
+        }
+
+        // Series are pooled over attribute option combos from their variances
+        // and the spread of their means around the pooled average, which is
+        // taken as zero when all means are equal so that constant series keep
+        // a standard deviation of exactly zero
+
+        // Bounds are rounded half up as with Math.round, conflicts can only
+        // arise from concurrent generation for overlapping hierarchies
+
+        // @formatter:off
+        String sql =
+            "insert into minmaxdataelement (minmaxdataelementid, sourceid, dataelementid, categoryoptioncomboid, " +
+                "minimumvalue, maximumvalue, generatedvalue) " +
+            "select nextval('hibernate_sequence'), b.sourceid, b.dataelementid, b.categoryoptioncomboid, " +
+                "case when b.valuetype in ('INTEGER_POSITIVE', 'INTEGER_ZERO_OR_POSITIVE') " +
+                    "then greatest(b.minimumvalue, 0) else b.minimumvalue end, " +
+                "case when b.valuetype = 'INTEGER_NEGATIVE' " +
+                    "then least(b.maximumvalue, 0) else b.maximumvalue end, " +
+                "true " +
+            "from (" +
+                "select m.sourceid, m.dataelementid, m.categoryoptioncomboid, m.valuetype, " +
+                "cast(floor(m.average - m.stddev * ? + 0.5) as integer) as minimumvalue, " +
+                "cast(floor(m.average + m.stddev * ? + 0.5) as integer) as maximumvalue " +
+                "from (" +
+                    "select v.sourceid, v.dataelementid, v.categoryoptioncomboid, v.valuetype, v.average, " +
+                    "sqrt((sum(v.valuecount * v.valuevariance) + " +
+                        "case when min(v.valuesum / v.valuecount) = max(v.valuesum / v.valuecount) then 0 " +
+                        "else sum(v.valuecount * power(v.valuesum / v.valuecount - v.average, 2)) end) / " +
+                        "sum(v.valuecount)) as stddev " +
+                    "from (" +
+                        "select s.sourceid, s.dataelementid, s.categoryoptioncomboid, de.valuetype, " +
+                        "s.valuecount, s.valuesum, s.valuevariance, " +
+                        "sum(s.valuesum) over w / sum(s.valuecount) over w as average " +
+                        "from datavaluestatistics s " +
+                        "inner join (values " + series + ") as dc (dataelementid, categoryoptioncomboid) " +
+                            "on s.dataelementid = dc.dataelementid " +
+                            "and s.categoryoptioncomboid = dc.categoryoptioncomboid " +
+                        "inner join dataelement de on s.dataelementid = de.dataelementid " +
+                        "inner join organisationunit ou on s.sourceid = ou.organisationunitid " +
+                        "where de.valuetype in (" + getQuotedCommaDelimitedString( ValueType.NUMERIC_TYPES ) + ") " +
+                        "and ou.path like ? " +
+                        "window w as (partition by s.sourceid, s.dataelementid, s.categoryoptioncomboid)" +
+                    ") as v " +
+                    "group by v.sourceid, v.dataelementid, v.categoryoptioncomboid, v.valuetype, v.average" +
+                ") as m " +
+                "where m.stddev != 0" +
+            ") as b " +
+            "on conflict (sourceid, dataelementid, categoryoptioncomboid) do update " +
+            "set minimumvalue = excluded.minimumvalue, maximumvalue = excluded.maximumvalue, " +
+            "generatedvalue = excluded.generatedvalue";
+        // @formatter:on
+
+        return jdbcTemplate.update( sql, stdDevFactor, stdDevFactor, pathPattern );
+    }
+
     private Predicate parseFilter( CriteriaBuilder builder, Root<?> root, List<String> filters )
     {
         Predicate conjunction = builder.conjunction();
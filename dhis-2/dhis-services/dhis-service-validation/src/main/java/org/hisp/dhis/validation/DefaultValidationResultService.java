@@ -33,7 +33,9 @@ import static org.hisp.dhis.commons.collection.CollectionUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -84,14 +86,33 @@ public class DefaultValidationResultService
         this.validationRuleService = validationRuleService;
     }
 
+    /**
+     * Saves the validation results which are not yet persisted. The periods
+     * are reloaded once for each distinct period and the results are then
+     * inserted in batches within this transaction.
+     */
     @Transactional
     @Override
     public void saveValidationResults( Collection<ValidationResult> validationResults )
     {
-        validationResults.forEach( validationResult -> {
-            validationResult.setPeriod( periodService.reloadPeriod( validationResult.getPeriod() ) );
-            validationResultStore.save( validationResult );
-        } );
+        Map<Period, Period> periods = new HashMap<>();
+
+        List<ValidationResult> newResults = new ArrayList<>();
+
+        for ( ValidationResult validationResult : validationResults )
+        {
+            if ( validationResult.getId() != 0 )
+            {
+                continue; // Already persisted
+            }
+
+            validationResult.setPeriod( periods.computeIfAbsent( validationResult.getPeriod(),
+                periodService::reloadPeriod ) );
+
+            newResults.add( validationResult );
+        }
+
+        validationResultStore.saveBatch( newResults );
     }
 
     @Transactional( readOnly = true )
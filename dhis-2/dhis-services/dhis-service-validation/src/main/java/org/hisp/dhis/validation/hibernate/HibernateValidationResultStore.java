@@ -30,6 +30,8 @@ package org.hisp.dhis.validation.hibernate;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.hisp.dhis.commons.collection.CollectionUtils.isEmpty;
 
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
@@ -72,6 +74,12 @@ public class HibernateValidationResultStore
     extends HibernateGenericStore<ValidationResult>
     implements ValidationResultStore
 {
+    private static final String INSERT_SQL = "insert into validationresult (validationresultid, created, " +
+        "leftsidevalue, rightsidevalue, validationruleid, periodid, organisationunitid, attributeoptioncomboid, " +
+        "dayinperiod, notificationsent) values (nextval('hibernate_sequence'), ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 1000;
+
     private final CurrentUserService currentUserService;
 
     public HibernateValidationResultStore( SessionFactory sessionFactory, JdbcTemplate jdbcTemplate,
@@ -227,6 +235,36 @@ public class HibernateValidationResultStore
         super.save( validationResult );
     }
 
+    @Override
+    public void saveBatch( Collection<ValidationResult> validationResults )
+    {
+        if ( validationResults.isEmpty() )
+        {
+            return;
+        }
+
+        // Make objects pending in the session, such as new periods, visible
+        // to the JDBC inserts
+
+        getSession().flush();
+
+        Date created = new Date();
+
+        jdbcTemplate.batchUpdate( INSERT_SQL, validationResults, BATCH_SIZE, ( ps, vr ) -> {
+            vr.setCreated( created );
+
+            ps.setTimestamp( 1, new Timestamp( created.getTime() ) );
+            ps.setObject( 2, vr.getLeftsideValue(), Types.DOUBLE );
+            ps.setObject( 3, vr.getRightsideValue(), Types.DOUBLE );
+            ps.setLong( 4, vr.getValidationRule().getId() );
+            ps.setLong( 5, vr.getPeriod().getId() );
+            ps.setLong( 6, vr.getOrganisationUnit().getId() );
+            ps.setLong( 7, vr.getAttributeOptionCombo().getId() );
+            ps.setInt( 8, vr.getDayInPeriod() );
+            ps.setObject( 9, vr.getNotificationSent(), Types.BOOLEAN );
+        } );
+    }
+
     // -------------------------------------------------------------------------
     // Supportive methods
     // -------------------------------------------------------------------------
@@ -150,16 +150,20 @@ public class DefaultValidationNotificationService implements ValidationNotificat
         // ValidationNotificationTemplate
         SortedSet<MessagePair> messagePairs = createMessagePairs( applicableResults );
 
+        // Recipients only depend on template and organisation unit, so they
+        // are resolved once for each such combination
+        Function<MessagePair, Set<User>> recipients = createRecipientResolver();
+
         // Segregate MessagePairs based on SendStrategy
         Map<SendStrategy, SortedSet<MessagePair>> segregatedMap = segregateMessagePairBasedOnStrategy( messagePairs );
 
         Map<SendStrategy, Map<Set<User>, NotificationMessage>> notifications = new EnumMap<>( SendStrategy.class );
 
         notifications.put( SendStrategy.SINGLE_NOTIFICATION, createSingleNotifications(
-            segregatedMap.getOrDefault( SendStrategy.SINGLE_NOTIFICATION, new TreeSet<>() ) ) );
+            segregatedMap.getOrDefault( SendStrategy.SINGLE_NOTIFICATION, new TreeSet<>() ), recipients ) );
 
         notifications.put( SendStrategy.COLLECTIVE_SUMMARY, createSummaryNotifications(
-            segregatedMap.getOrDefault( SendStrategy.COLLECTIVE_SUMMARY, new TreeSet<>() ) ) );
+            segregatedMap.getOrDefault( SendStrategy.COLLECTIVE_SUMMARY, new TreeSet<>() ), recipients ) );
         return notifications;
     }
 
@@ -205,7 +209,8 @@ public class DefaultValidationNotificationService implements ValidationNotificat
         return segregatedMap;
     }
 
-    private Map<Set<User>, NotificationMessage> createSingleNotifications( SortedSet<MessagePair> messagePairs )
+    private Map<Set<User>, NotificationMessage> createSingleNotifications( SortedSet<MessagePair> messagePairs,
+        Function<MessagePair, Set<User>> recipients )
     {
         BiMap<Set<User>, NotificationMessage> singleNotificationCollection = HashBiMap.create();
 
@@ -218,19 +223,20 @@ public class DefaultValidationNotificationService implements ValidationNotificat
 
             singleNotificationCollection.put( new HashSet<>(), notificationMessage );
 
-            resolveRecipients( messagePair )
+            recipients.apply( messagePair )
                 .forEach( user -> singleNotificationCollection.inverse().get( notificationMessage ).add( user ) );
         }
 
         return singleNotificationCollection;
     }
 
-    private Map<Set<User>, NotificationMessage> createSummaryNotifications( SortedSet<MessagePair> messagePairs )
+    private Map<Set<User>, NotificationMessage> createSummaryNotifications( SortedSet<MessagePair> messagePairs,
+        Function<MessagePair, Set<User>> recipients )
     {
         // Group the set of MessagePair into divisions representing a single
         // summarized message and its recipients
         Map<Set<User>, SortedSet<MessagePair>> groupedByRecipientsForSummary = createRecipientsToMessagePairsMap(
-            messagePairs );
+            messagePairs, recipients );
 
         // Flatten the grouped and sorted MessagePairs into single
         // NotificationMessages
@@ -321,23 +327,25 @@ public class DefaultValidationNotificationService implements ValidationNotificat
     }
 
     private static Map<Set<User>, SortedSet<MessagePair>> createRecipientsToMessagePairsMap(
-        SortedSet<MessagePair> messagePairs )
+        SortedSet<MessagePair> messagePairs, Function<MessagePair, Set<User>> recipients )
     {
         // Map each user to a distinct set of MessagePair
-        Map<User, SortedSet<MessagePair>> singleUserToMessagePairs = getMessagePairsPerSingleUser( messagePairs );
+        Map<User, SortedSet<MessagePair>> singleUserToMessagePairs = getMessagePairsPerSingleUser( messagePairs,
+            recipients );
 
         // Group each distinct SortedSet of MessagePair for the distinct Set of
         // recipient Users
         return groupRecipientsForMessagePairs( singleUserToMessagePairs );
     }
 
-    private static Map<User, SortedSet<MessagePair>> getMessagePairsPerSingleUser( SortedSet<MessagePair> messagePairs )
+    private static Map<User, SortedSet<MessagePair>> getMessagePairsPerSingleUser( SortedSet<MessagePair> messagePairs,
+        Function<MessagePair, Set<User>> recipients )
     {
         Map<User, SortedSet<MessagePair>> messagePairsPerUsers = new HashMap<>();
 
         for ( MessagePair pair : messagePairs )
         {
-            Set<User> usersForThisPair = resolveRecipients( pair );
+            Set<User> usersForThisPair = recipients.apply( pair );
 
             for ( User user : usersForThisPair )
             {
@@ -373,6 +381,19 @@ public class DefaultValidationNotificationService implements ValidationNotificat
         return grouped;
     }
 
+    /**
+     * Returns a function resolving the recipients of a MessagePair, which
+     * remembers the recipients for each distinct template and organisation
+     * unit. The returned sets must not be modified.
+     */
+    private static Function<MessagePair, Set<User>> createRecipientResolver()
+    {
+        Map<ValidationNotificationTemplate, Map<OrganisationUnit, Set<User>>> cache = new HashMap<>();
+
+        return pair -> cache.computeIfAbsent( pair.template, t -> new HashMap<>() )
+            .computeIfAbsent( pair.result.getOrganisationUnit(), ou -> resolveRecipients( pair ) );
+    }
+
     /**
      * Resolve all distinct recipients for the given MessagePair.
      */
@@ -32,6 +32,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -197,6 +200,22 @@ class ValidationNotificationServiceTest extends DhisConvenienceTest
             "Wrong number of messages in the summarized message" );
     }
 
+    @Test
+    void testRecipientsAreResolvedOncePerTemplateAndOrganisationUnit()
+    {
+        setUpEntitiesA();
+        UserGroup userGroup = spy( userGroupA );
+        valRuleA.getNotificationTemplates()
+            .forEach( template -> template.setRecipientUserGroups( Sets.newHashSet( userGroup ) ) );
+        OrganisationUnit orgUnitB = createOrganisationUnit( 'B' );
+        Set<ValidationResult> results = IntStream.range( 0, 10 ).boxed()
+            .map( i -> i % 2 == 0 ? createValidationResultA() : createValidationResult( orgUnitB, valRuleA ) )
+            .collect( Collectors.toSet() );
+        subject.sendNotifications( results, NoopJobProgress.INSTANCE );
+        assertEquals( 1, sentMessages.size() );
+        verify( userGroup, times( 2 ) ).getMembers();
+    }
+
     @Test
     void testNotifyParentOfUserInGroup()
     {
@@ -31,9 +31,12 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -41,12 +44,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.common.CodeGenerator;
 import org.hisp.dhis.common.IllegalQueryException;
 import org.hisp.dhis.feedback.ErrorCode;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.organisationunit.OrganisationUnitService;
+import org.hisp.dhis.period.Period;
 import org.hisp.dhis.period.PeriodService;
+import org.hisp.dhis.period.PeriodType;
 import org.hisp.dhis.validation.comparator.ValidationResultQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -183,6 +189,40 @@ class ValidationResultServiceTest
         assertLegalRequest( op, "2020Q1" );
     }
 
+    @Test
+    void saveValidationResultsSkipsPersistedResultsAndReloadsEachPeriodOnce()
+    {
+        Period periodA = PeriodType.getPeriodFromIsoString( "202001" );
+        Period periodB = PeriodType.getPeriodFromIsoString( "202002" );
+        Period reloadedA = PeriodType.getPeriodFromIsoString( "202001" );
+        Period reloadedB = PeriodType.getPeriodFromIsoString( "202002" );
+        reloadedA.setId( 1L );
+        reloadedB.setId( 2L );
+        when( periodService.reloadPeriod( periodA ) ).thenReturn( reloadedA );
+        when( periodService.reloadPeriod( periodB ) ).thenReturn( reloadedB );
+
+        ValidationResult persisted = createValidationResult( periodA, 1 );
+        persisted.setId( 42L );
+        ValidationResult resultA1 = createValidationResult( periodA, 1 );
+        ValidationResult resultA2 = createValidationResult( periodA, 2 );
+        ValidationResult resultB = createValidationResult( periodB, 1 );
+
+        service.saveValidationResults( asList( persisted, resultA1, resultA2, resultB ) );
+
+        verify( periodService, times( 2 ) ).reloadPeriod( any() );
+        verify( store ).saveBatch( asList( resultA1, resultA2, resultB ) );
+        assertSame( periodA, persisted.getPeriod() );
+        assertSame( reloadedA, resultA1.getPeriod() );
+        assertSame( reloadedA, resultA2.getPeriod() );
+        assertSame( reloadedB, resultB.getPeriod() );
+    }
+
+    private ValidationResult createValidationResult( Period period, int dayInPeriod )
+    {
+        return new ValidationResult( new ValidationRule(), period, new OrganisationUnit(),
+            new CategoryOptionCombo(), 1.0, 2.0, dayInPeriod );
+    }
+
     private void assertLegalQuery( BiConsumer<ValidationResultQuery, List<String>> operation, String... values )
     {
         ValidationResultQuery query = new ValidationResultQuery();
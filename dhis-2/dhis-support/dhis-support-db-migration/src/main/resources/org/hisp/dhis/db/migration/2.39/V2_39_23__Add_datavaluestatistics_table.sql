@@ -0,0 +1,13 @@
+-- Add table holding the count, sum and population variance of the numeric
+-- values of each data value series, used by min-max value generation
+
+create table if not exists datavaluestatistics (
+    dataelementid int8 not null,
+    sourceid int8 not null,
+    categoryoptioncomboid int8 not null,
+    attributeoptioncomboid int8 not null,
+    valuecount int8 not null,
+    valuesum float8 not null,
+    valuevariance float8 not null,
+    constraint datavaluestatistics_pkey primary key (dataelementid, sourceid, categoryoptioncomboid, attributeoptioncomboid)
+);
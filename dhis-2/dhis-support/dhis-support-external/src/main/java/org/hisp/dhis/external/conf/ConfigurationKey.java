@@ -406,6 +406,14 @@ public enum ConfigurationKey
      */
     ARTEMIS_EMBEDDED_THREADS( "artemis.embedded.threads", "5" ),
 
+    /**
+     * Max number of tracker side effect jobs (notifications and program rule
+     * actions) which can be pending on the embedded queue before tracker
+     * imports run further side effects themselves instead of queueing them.
+     * (default: 10000).
+     */
+    TRACKER_SIDE_EFFECTS_MAX_PENDING( "tracker.side.effects.max.pending", "10000", false ),
+
     /**
      * Max filesize for log files in "HOME/logs/" directory. Does not affect
      * size of audit logs. (default: 100MB).
@@ -465,6 +473,11 @@ public enum ConfigurationKey
      */
     MONITORING_CPU_ENABLED( "monitoring.cpu.enabled", Constants.OFF, false ),
 
+    /**
+     * Tracker side effect queue monitoring. (default: off)
+     */
+    MONITORING_TRACKER_SIDE_EFFECTS_ENABLED( "monitoring.tracker.side.effects.enabled", Constants.OFF, false ),
+
     /**
      * AppHub base URL. (default: https://apps.dhis2.org).
      */
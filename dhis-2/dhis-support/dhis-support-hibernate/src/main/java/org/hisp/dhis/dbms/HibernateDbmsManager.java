@@ -92,6 +92,7 @@ public class HibernateDbmsManager
         emptyTable( "incomingsms" );
 
         emptyTable( "datavalueaudit" );
+        emptyTable( "datavaluestatistics" );
         emptyTable( "datavalue" );
         emptyTable( "completedatasetregistration" );
 
@@ -28,6 +28,9 @@
 package org.hisp.dhis.dataanalysis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -38,6 +41,7 @@ import java.util.Set;
 import org.hisp.dhis.category.CategoryCombo;
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.category.CategoryService;
+import org.hisp.dhis.common.ValueType;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataelement.DataElementService;
 import org.hisp.dhis.datavalue.DataValue;
@@ -49,6 +53,7 @@ import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.organisationunit.OrganisationUnitService;
 import org.hisp.dhis.period.MonthlyPeriodType;
 import org.hisp.dhis.period.Period;
+import org.hisp.dhis.scheduling.NoopJobProgress;
 import org.hisp.dhis.test.integration.IntegrationTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -198,4 +203,65 @@ class MinMaxOutlierAnalysisServiceTest extends IntegrationTestBase
             dataElementsA, periods, null, from );
         assertEquals( 2, result.size() );
     }
+
+    @Test
+    void testGenerateMinMaxValues()
+    {
+        dataValueService
+            .addDataValue( createDataValue( dataElementA, periodA, organisationUnitA, "5", categoryOptionCombo ) );
+        dataValueService
+            .addDataValue( createDataValue( dataElementA, periodB, organisationUnitA, "-5", categoryOptionCombo ) );
+        dataValueService
+            .addDataValue( createDataValue( dataElementA, periodC, organisationUnitA, "5", categoryOptionCombo ) );
+        dataValueService
+            .addDataValue( createDataValue( dataElementA, periodD, organisationUnitA, "-5", categoryOptionCombo ) );
+        minMaxDataElementService.addMinMaxDataElement(
+            new MinMaxDataElement( dataElementA, organisationUnitA, categoryOptionCombo, -40, 40, false ) );
+        // Average is 0 and standard deviation is 5
+        minMaxOutlierAnalysisService.generateMinMaxValues( organisationUnitA, dataElementsA, 2.0,
+            NoopJobProgress.INSTANCE );
+        MinMaxDataElement minMax = minMaxDataElementService.getMinMaxDataElement( organisationUnitA, dataElementA,
+            categoryOptionCombo );
+        assertEquals( -10, minMax.getMin() );
+        assertEquals( 10, minMax.getMax() );
+        assertTrue( minMax.isGenerated() );
+        assertNull( minMaxDataElementService.getMinMaxDataElement( organisationUnitA, dataElementB,
+            categoryOptionCombo ) );
+    }
+
+    @Test
+    void testGenerateMinMaxValuesSkipsConstantSeries()
+    {
+        dataElementB.setValueType( ValueType.NUMBER );
+        dataElementService.updateDataElement( dataElementB );
+        dataValueService
+            .addDataValue( createDataValue( dataElementB, periodA, organisationUnitA, "0.3", categoryOptionCombo ) );
+        dataValueService
+            .addDataValue( createDataValue( dataElementB, periodB, organisationUnitA, "0.3", categoryOptionCombo ) );
+        dataValueService
+            .addDataValue( createDataValue( dataElementB, periodC, organisationUnitA, "0.3", categoryOptionCombo ) );
+        // Standard deviation is exactly 0, no bounds can be derived
+        minMaxOutlierAnalysisService.generateMinMaxValues( organisationUnitA, dataElementsC, 2.0,
+            NoopJobProgress.INSTANCE );
+        assertNull( minMaxDataElementService.getMinMaxDataElement( organisationUnitA, dataElementB,
+            categoryOptionCombo ) );
+    }
+
+    @Test
+    void testGenerateMinMaxValuesAfterDataValuesDeleted()
+    {
+        dataValueService
+            .addDataValue( createDataValue( dataElementA, periodA, organisationUnitA, "5", categoryOptionCombo ) );
+        dataValueService
+            .addDataValue( createDataValue( dataElementA, periodB, organisationUnitA, "-5", categoryOptionCombo ) );
+        minMaxOutlierAnalysisService.generateMinMaxValues( organisationUnitA, dataElementsA, 2.0,
+            NoopJobProgress.INSTANCE );
+        assertNotNull( minMaxDataElementService.getMinMaxDataElement( organisationUnitA, dataElementA,
+            categoryOptionCombo ) );
+        dataValueService.deleteDataValues( dataElementA );
+        minMaxOutlierAnalysisService.generateMinMaxValues( organisationUnitA, dataElementsA, 2.0,
+            NoopJobProgress.INSTANCE );
+        assertNull( minMaxDataElementService.getMinMaxDataElement( organisationUnitA, dataElementA,
+            categoryOptionCombo ) );
+    }
 }
@@ -28,9 +28,13 @@
 package org.hisp.dhis.dataapproval;
 
 import static com.google.common.collect.Sets.newHashSet;
+import static java.util.stream.Collectors.toMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.hisp.dhis.category.CategoryCombo;
 import org.hisp.dhis.category.CategoryOption;
@@ -98,6 +102,8 @@ class DataApprovalStoreUserTest extends IntegrationTestBase
 
     private OrganisationUnit orgUnitD;
 
+    private OrganisationUnit orgUnitE;
+
     private User currentUser;
 
     // -------------------------------------------------------------------------
@@ -128,18 +134,22 @@ class DataApprovalStoreUserTest extends IntegrationTestBase
         orgUnitB = createOrganisationUnit( 'B', orgUnitA );
         orgUnitC = createOrganisationUnit( 'C', orgUnitB );
         orgUnitD = createOrganisationUnit( 'D', orgUnitA );
+        orgUnitE = createOrganisationUnit( 'E', orgUnitD );
         organisationUnitService.addOrganisationUnit( orgUnitA );
         organisationUnitService.addOrganisationUnit( orgUnitB );
         organisationUnitService.addOrganisationUnit( orgUnitC );
         organisationUnitService.addOrganisationUnit( orgUnitD );
+        organisationUnitService.addOrganisationUnit( orgUnitE );
         orgUnitA.addDataSet( dataSetA );
         orgUnitB.addDataSet( dataSetA );
         orgUnitC.addDataSet( dataSetA );
         orgUnitD.addDataSet( dataSetA );
+        orgUnitE.addDataSet( dataSetA );
         organisationUnitService.updateOrganisationUnit( orgUnitA );
         organisationUnitService.updateOrganisationUnit( orgUnitB );
         organisationUnitService.updateOrganisationUnit( orgUnitC );
         organisationUnitService.updateOrganisationUnit( orgUnitD );
+        organisationUnitService.updateOrganisationUnit( orgUnitE );
 
         currentUser = createAndAddUser( true, "username", newHashSet( orgUnitA ), newHashSet( orgUnitA ) );
         injectSecurityContext( currentUser );
@@ -194,4 +204,76 @@ class DataApprovalStoreUserTest extends IntegrationTestBase
             orgUnitD.getHierarchyLevel(), catComboA, null, null, null );
         assertEquals( 0, statuses.size() );
     }
+
+    @Test
+    void testGetDataApprovalStatusesForSeveralOrgUnits()
+    {
+        CategoryOptionCombo catOptionComboB = createAttributeOptionCombo( 'B' );
+        CategoryCombo catComboB = catOptionComboB.getCategoryCombo();
+        dataApprovalStore.addDataApproval( new DataApproval( level3, workflowA, periodA, orgUnitC, catOptionComboB,
+            false, new Date(), currentUser ) );
+        List<DataApprovalStatus> statuses = dataApprovalStore.getDataApprovalStatuses( workflowA, periodA,
+            Lists.newArrayList( orgUnitC, orgUnitE ), orgUnitC.getHierarchyLevel(), catComboB, null,
+            dataApprovalLevelService.getUserDataApprovalLevelsOrLowestLevel( currentUser, workflowA ),
+            dataApprovalLevelService.getDataApprovalLevelMap() );
+        assertEquals( 2, statuses.size() );
+        Map<String, DataApprovalStatus> statusByOrgUnit = statuses.stream()
+            .collect( toMap( DataApprovalStatus::getOrganisationUnitUid, Function.identity() ) );
+        assertEquals( DataApprovalState.APPROVED_HERE, statusByOrgUnit.get( orgUnitC.getUid() ).getState() );
+        assertEquals( DataApprovalState.UNAPPROVED_READY, statusByOrgUnit.get( orgUnitE.getUid() ).getState() );
+    }
+
+    @Test
+    void testGetDataApprovalStatusesSkipsInvisibleOrgUnits()
+    {
+        CategoryOptionCombo catOptionComboC = createAttributeOptionCombo( 'C' );
+        User userB = createAndAddUser( true, "userB", newHashSet( orgUnitB ), newHashSet( orgUnitB ) );
+        injectSecurityContext( userB );
+        List<DataApprovalStatus> statuses = dataApprovalStore.getDataApprovalStatuses( workflowA, periodA,
+            Lists.newArrayList( orgUnitC, orgUnitE ), orgUnitC.getHierarchyLevel(),
+            catOptionComboC.getCategoryCombo(), null,
+            dataApprovalLevelService.getUserDataApprovalLevelsOrLowestLevel( userB, workflowA ),
+            dataApprovalLevelService.getDataApprovalLevelMap() );
+        assertEquals( 1, statuses.size() );
+        assertEquals( orgUnitC.getUid(), statuses.get( 0 ).getOrganisationUnitUid() );
+        assertEquals( DataApprovalState.UNAPPROVED_READY, statuses.get( 0 ).getState() );
+    }
+
+    @Test
+    void testGetDataApprovalStatusesGroupedByOrgUnitLevel()
+    {
+        CategoryOptionCombo catOptionComboD = createAttributeOptionCombo( 'D' );
+        dataApprovalStore.addDataApproval( new DataApproval( level3, workflowA, periodA, orgUnitC, catOptionComboD,
+            false, new Date(), currentUser ) );
+        DataApproval approvalB = new DataApproval( level2, workflowA, periodA, orgUnitB, catOptionComboD );
+        DataApproval approvalC = new DataApproval( level3, workflowA, periodA, orgUnitC, catOptionComboD );
+        DataApproval approvalE = new DataApproval( level3, workflowA, periodA, orgUnitE, catOptionComboD );
+        Map<DataApproval, DataApprovalStatus> statuses = dataApprovalService
+            .getDataApprovalStatuses( Lists.newArrayList( approvalB, approvalC, approvalE ) );
+        assertEquals( 3, statuses.size() );
+        assertEquals( DataApprovalState.UNAPPROVED_READY, statuses.get( approvalB ).getState() );
+        assertEquals( DataApprovalState.APPROVED_HERE, statuses.get( approvalC ).getState() );
+        assertEquals( DataApprovalState.UNAPPROVED_READY, statuses.get( approvalE ).getState() );
+    }
+
+    // -------------------------------------------------------------------------
+    // Supportive methods
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates an attribute option combo whose category option is not
+     * restricted to any organisation units.
+     */
+    private CategoryOptionCombo createAttributeOptionCombo( char uniqueCharacter )
+    {
+        CategoryOption catOption = new CategoryOption( "CategoryOption" + uniqueCharacter );
+        categoryService.addCategoryOption( catOption );
+        org.hisp.dhis.category.Category cat = createCategory( uniqueCharacter, catOption );
+        categoryService.addCategory( cat );
+        CategoryCombo catCombo = createCategoryCombo( uniqueCharacter, cat );
+        categoryService.addCategoryCombo( catCombo );
+        CategoryOptionCombo catOptionCombo = createCategoryOptionCombo( catCombo, catOption );
+        categoryService.addCategoryOptionCombo( catOptionCombo );
+        return catOptionCombo;
+    }
 }
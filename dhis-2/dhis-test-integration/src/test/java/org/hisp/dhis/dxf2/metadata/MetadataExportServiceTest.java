@@ -29,6 +29,8 @@ package org.hisp.dhis.dxf2.metadata;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -48,6 +50,7 @@ import org.hisp.dhis.user.UserGroupAccess;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 /**
@@ -158,6 +161,34 @@ class MetadataExportServiceTest extends TransactionalIntegrationTest
         assertEquals( 2, metadata.get( DataElement.class ).size() );
     }
 
+    @Test
+    void testMetadataExportSince()
+    {
+        DataElement de1 = createDataElement( 'A' );
+        DataElement de2 = createDataElement( 'B' );
+        manager.save( de1 );
+        manager.save( de2 );
+        MetadataExportParams params = new MetadataExportParams();
+        params.addClass( DataElement.class );
+        params.setSince( new Date( System.currentTimeMillis() - 60_000 ) );
+        Map<Class<? extends IdentifiableObject>, List<? extends IdentifiableObject>> metadata = metadataExportService
+            .getMetadata( params );
+        assertEquals( 2, metadata.get( DataElement.class ).size() );
+        params.setSince( new Date( System.currentTimeMillis() + 60_000 ) );
+        metadata = metadataExportService.getMetadata( params );
+        assertFalse( metadata.containsKey( DataElement.class ) );
+    }
+
+    @Test
+    void testGetParamsFromMapInvalidSince()
+    {
+        Map<String, List<String>> parameters = new HashMap<>();
+        parameters.put( "since", Lists.newArrayList( "yesterday" ) );
+        assertThrows( IllegalArgumentException.class, () -> metadataExportService.getParamsFromMap( parameters ) );
+        parameters.put( "since", Lists.newArrayList( "" ) );
+        assertThrows( IllegalArgumentException.class, () -> metadataExportService.getParamsFromMap( parameters ) );
+    }
+
     // @Test
     // TODO Fix this
     public void testSkipSharing()
@@ -48,11 +48,13 @@ import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.MergeMode;
 import org.hisp.dhis.dashboard.Dashboard;
+import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataexchange.aggregate.AggregateDataExchange;
 import org.hisp.dhis.dataexchange.aggregate.SourceRequest;
 import org.hisp.dhis.dataexchange.aggregate.TargetType;
 import org.hisp.dhis.dataset.DataSet;
 import org.hisp.dhis.dataset.Section;
+import org.hisp.dhis.deletedobject.DeletedObject;
 import org.hisp.dhis.dxf2.metadata.feedback.ImportReport;
 import org.hisp.dhis.dxf2.metadata.objectbundle.ObjectBundleMode;
 import org.hisp.dhis.eventreport.EventReport;
@@ -998,6 +1000,24 @@ class MetadataImportServiceTest extends TransactionalIntegrationTest
         assertNotNull( aeC.getTarget().getApi().getAccessToken() );
     }
 
+    @Test
+    void testImportDeletedObjects()
+    {
+        DataElement deA = createDataElement( 'A' );
+        DataElement deB = createDataElement( 'B' );
+        DataElement deC = createDataElement( 'C' );
+        manager.save( deA );
+        manager.save( deB );
+        MetadataImportParams params = createParams( ImportStrategy.CREATE_AND_UPDATE, new HashMap<>() );
+        params.setDeletedObjects( Lists.newArrayList( new DeletedObject( deA ), new DeletedObject( deC ) ) );
+        ImportReport report = importService.importMetadata( params );
+
+        assertEquals( Status.OK, report.getStatus(), report.toString() );
+        assertEquals( 1, report.getStats().getDeleted() );
+        assertNull( manager.get( DataElement.class, deA.getUid() ) );
+        assertNotNull( manager.get( DataElement.class, deB.getUid() ) );
+    }
+
     private MetadataImportParams createParams( ImportStrategy importStrategy,
         Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> metadata )
     {
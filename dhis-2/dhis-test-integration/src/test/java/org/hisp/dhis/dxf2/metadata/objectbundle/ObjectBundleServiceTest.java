@@ -40,8 +40,12 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.hisp.dhis.category.Category;
 import org.hisp.dhis.category.CategoryCombo;
 import org.hisp.dhis.category.CategoryOption;
@@ -50,6 +54,7 @@ import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.MergeMode;
 import org.hisp.dhis.common.ValueType;
+import org.hisp.dhis.constant.Constant;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataelement.DataElementGroup;
 import org.hisp.dhis.dataelement.DataElementOperand;
@@ -57,6 +62,7 @@ import org.hisp.dhis.dataset.DataSet;
 import org.hisp.dhis.dataset.DataSetElement;
 import org.hisp.dhis.dataset.Section;
 import org.hisp.dhis.dxf2.metadata.AtomicMode;
+import org.hisp.dhis.dxf2.metadata.FlushMode;
 import org.hisp.dhis.dxf2.metadata.objectbundle.feedback.ObjectBundleValidationReport;
 import org.hisp.dhis.feedback.ErrorCode;
 import org.hisp.dhis.importexport.ImportStrategy;
@@ -89,6 +95,7 @@ import com.google.common.collect.Sets;
  */
 class ObjectBundleServiceTest extends TransactionalIntegrationTest
 {
+    private static final int CONSTANT_COUNT = 100;
 
     @Autowired
     private ObjectBundleService objectBundleService;
@@ -105,6 +112,9 @@ class ObjectBundleServiceTest extends TransactionalIntegrationTest
     @Autowired
     private UserService _userService;
 
+    @Autowired
+    private SessionFactory sessionFactory;
+
     @Override
     protected void setUpTest()
         throws Exception
@@ -402,6 +412,50 @@ class ObjectBundleServiceTest extends TransactionalIntegrationTest
         assertEquals( "DataElementCodeD", dataElements.get( 0 ).getCode() );
     }
 
+    @Test
+    void testCommitRestoresJdbcBatchSize()
+        throws IOException
+    {
+        Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> metadata = renderService
+            .fromMetadata( new ClassPathResource( "dxf2/simple_metadata.json" ).getInputStream(),
+                RenderFormat.JSON );
+        ObjectBundleParams params = new ObjectBundleParams();
+        params.setObjectBundleMode( ObjectBundleMode.COMMIT );
+        params.setImportStrategy( ImportStrategy.CREATE );
+        params.setFlushMode( FlushMode.AUTO );
+        params.setObjects( metadata );
+        ObjectBundle bundle = objectBundleService.create( params );
+        objectBundleValidationService.validate( bundle );
+        Integer jdbcBatchSize = sessionFactory.getCurrentSession().getJdbcBatchSize();
+        objectBundleService.commit( bundle );
+        assertEquals( jdbcBatchSize, sessionFactory.getCurrentSession().getJdbcBatchSize() );
+        assertFalse( manager.getAll( DataElement.class ).isEmpty() );
+        assertFalse( manager.getAll( DataSet.class ).isEmpty() );
+    }
+
+    @Test
+    void testCommitBatchesInsertsWithFlushModeAuto()
+    {
+        Statistics statistics = sessionFactory.getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled( true );
+        try
+        {
+            long objectFlushStatements = commitConstants( "ObjectFlush", FlushMode.OBJECT, statistics );
+            long autoFlushStatements = commitConstants( "AutoFlush", FlushMode.AUTO, statistics );
+            assertEquals( 2 * CONSTANT_COUNT, manager.getAll( Constant.class ).size() );
+            // Both modes fetch an id for every constant, but batched inserts
+            // share one prepared statement per batch instead of one each
+            assertTrue( autoFlushStatements + CONSTANT_COUNT / 2 < objectFlushStatements,
+                "Expected batched inserts but prepared " + autoFlushStatements + " statements with AUTO and "
+                    + objectFlushStatements + " with OBJECT flush mode" );
+        }
+        finally
+        {
+            statistics.setStatisticsEnabled( statisticsEnabled );
+        }
+    }
+
     @Test
     void testCreateSimpleMetadataUID()
         throws IOException
@@ -1391,6 +1445,26 @@ class ObjectBundleServiceTest extends TransactionalIntegrationTest
         assertEquals( objectUid, organisationUnits.get( 0 ).getUid() );
     }
 
+    private long commitConstants( String namePrefix, FlushMode flushMode, Statistics statistics )
+    {
+        List<IdentifiableObject> constants = IntStream.range( 0, CONSTANT_COUNT ).<IdentifiableObject> mapToObj( i -> {
+            Constant constant = new Constant( namePrefix + i );
+            constant.setAutoFields();
+            constant.setValue( i );
+            return constant;
+        } ).collect( Collectors.toList() );
+        ObjectBundleParams params = new ObjectBundleParams();
+        params.setObjectBundleMode( ObjectBundleMode.COMMIT );
+        params.setImportStrategy( ImportStrategy.CREATE );
+        params.setFlushMode( flushMode );
+        params.setObjects( Map.of( Constant.class, constants ) );
+        ObjectBundle bundle = objectBundleService.create( params );
+        assertFalse( objectBundleValidationService.validate( bundle ).hasErrorReports() );
+        statistics.clear();
+        objectBundleService.commit( bundle );
+        return statistics.getPrepareStatementCount();
+    }
+
     private void defaultSetup()
     {
         DataElement de1 = createDataElement( 'A' );
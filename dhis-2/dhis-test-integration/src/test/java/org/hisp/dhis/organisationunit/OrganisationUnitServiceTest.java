@@ -539,6 +539,18 @@ class OrganisationUnitServiceTest extends SingleSetupIntegrationTestBase
         assertFalse( organisationUnitService.isDescendant( unit4, unit1 ) );
     }
 
+    @Test
+    void testIsDescendantStoredPath()
+    {
+        OrganisationUnit unit1 = createOrganisationUnit( '1' );
+        OrganisationUnit unit2 = createOrganisationUnit( '2' );
+        OrganisationUnit unit3 = createOrganisationUnit( '3' );
+        unit3.setPath( "/" + unit1.getUid() + "/" + unit2.getUid() + "/" + unit3.getUid() );
+        assertTrue( organisationUnitService.isDescendant( unit3, unit1 ) );
+        assertTrue( organisationUnitService.isDescendant( unit3, Sets.newHashSet( unit2 ) ) );
+        assertFalse( organisationUnitService.isDescendant( unit1, unit3 ) );
+    }
+
     @Test
     void testGetOrganisationUnitAtLevelAndBranch()
         throws Exception
@@ -174,6 +174,33 @@ class OutlierDetectionServiceZScoreTest extends IntegrationTestBase
         assertContainsOutlierValue( response, 87d );
     }
 
+    @Test
+    void testGetOutlierValuesAfterDataValueUpdate()
+    {
+        // 12, 91 are outlier values with a z-score above 2.0
+        DataValue dvA = new DataValue( deA, m06, ouA, coc, coc, "12" );
+        addDataValues( new DataValue( deA, m01, ouA, coc, coc, "50" ), new DataValue( deA, m07, ouA, coc, coc, "51" ),
+            new DataValue( deA, m02, ouA, coc, coc, "53" ), new DataValue( deA, m08, ouA, coc, coc, "59" ),
+            new DataValue( deA, m03, ouA, coc, coc, "58" ), new DataValue( deA, m09, ouA, coc, coc, "55" ),
+            new DataValue( deA, m04, ouA, coc, coc, "55" ), new DataValue( deA, m10, ouA, coc, coc, "52" ),
+            new DataValue( deA, m05, ouA, coc, coc, "51" ), new DataValue( deA, m11, ouA, coc, coc, "58" ),
+            dvA, new DataValue( deA, m12, ouA, coc, coc, "91" ) );
+        OutlierDetectionRequest request = new OutlierDetectionRequest.Builder()
+            .withDataElements( Lists.newArrayList( deA ) )
+            .withStartEndDate( getDate( 2020, 1, 1 ), getDate( 2021, 1, 1 ) ).withOrgUnits( Lists.newArrayList( ouA ) )
+            .withAlgorithm( OutlierDetectionAlgorithm.Z_SCORE ).withThreshold( 2.0 ).build();
+        OutlierDetectionResponse response = subject.getOutlierValues( request );
+        assertEquals( 2, response.getOutlierValues().size() );
+        assertContainsOutlierValue( response, 12d );
+        assertContainsOutlierValue( response, 91d );
+        // 91 is the only outlier value once 12 is updated to 52
+        dvA.setValue( "52" );
+        dataValueService.updateDataValue( dvA );
+        response = subject.getOutlierValues( request );
+        assertEquals( 1, response.getOutlierValues().size() );
+        assertContainsOutlierValue( response, 91d );
+    }
+
     @Test
     void testGetOutlierValuesWithDataStartEndDate()
     {
@@ -28,10 +28,19 @@
 package org.hisp.dhis.predictor;
 
 import static com.google.common.collect.Sets.newHashSet;
+import static java.util.stream.Collectors.toSet;
 import static org.hisp.dhis.common.OrganisationUnitDescendants.SELECTED;
 import static org.hisp.dhis.expression.ExpressionService.SYMBOL_DAYS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -1039,6 +1048,45 @@ class PredictionServiceTest extends IntegrationTestBase
         assertEquals( "Pred 2 Ins 0 Upd 0 Del 0 Unch 2", shortSummary( summary ) );
     }
 
+    @Test
+    void testPredictAllRunsIndependentPredictorsInParallelStages()
+    {
+        useDataValue( dataElementA, makeMonth( 2001, 6 ), sourceA, 10 );
+        useDataValue( dataElementB, makeMonth( 2001, 6 ), sourceA, 20 );
+        dataValueBatchHandler.flush();
+        Expression expressionX = new Expression( "#{" + dataElementX.getUid() + "} + 1", "descriptionX" );
+        Predictor predictorA = createPredictor( dataElementX, defaultCombo, "A", expressionA, null, periodTypeMonthly,
+            orgUnitLevel1, 1, 0, 0 );
+        Predictor predictorB = createPredictor( dataElementY, defaultCombo, "B", expressionB, null, periodTypeMonthly,
+            orgUnitLevel1, 1, 0, 0 );
+        Predictor predictorC = createPredictor( dataElementZ, defaultCombo, "C", expressionX, null, periodTypeMonthly,
+            orgUnitLevel1, 1, 0, 0 );
+        predictorService.addPredictor( predictorA );
+        predictorService.addPredictor( predictorB );
+        predictorService.addPredictor( predictorC );
+
+        // force the parallel path independent of the number of cores
+        List<Set<String>> stages = new ArrayList<>();
+        JobProgress parallelProgress = mock( JobProgress.class, delegatesTo( progress ) );
+        doAnswer( invocation -> {
+            Collection<Predictor> items = invocation.getArgument( 1 );
+            stages.add( items.stream().map( Predictor::getName ).collect( toSet() ) );
+            progress.runStageInParallel( 2, items, invocation.getArgument( 2 ), invocation.getArgument( 3 ) );
+            return null;
+        } ).when( parallelProgress ).runStageInParallel( anyInt(), anyCollection(), any(), any() );
+
+        List<String> predictors = Lists.newArrayList( predictorA.getUid(), predictorB.getUid(),
+            predictorC.getUid() );
+        summary = predictionService.predictAll( monthStart( 2001, 7 ), monthStart( 2001, 8 ), predictors, null,
+            parallelProgress );
+        assertEquals( List.of( Set.of( predictorA.getName(), predictorB.getName() ), Set.of( predictorC.getName() ) ),
+            stages );
+        assertEquals( "Pred 3 Ins 3 Upd 0 Del 0 Unch 0", shortSummary( summary ) );
+        assertEquals( "10.0", getDataValue( dataElementX, defaultCombo, sourceA, makeMonth( 2001, 7 ) ) );
+        assertEquals( "20", getDataValue( dataElementY, defaultCombo, sourceA, makeMonth( 2001, 7 ) ) );
+        assertEquals( "11", getDataValue( dataElementZ, defaultCombo, sourceA, makeMonth( 2001, 7 ) ) );
+    }
+
     @Test
     void testPredictTaskPredictorGroups()
     {
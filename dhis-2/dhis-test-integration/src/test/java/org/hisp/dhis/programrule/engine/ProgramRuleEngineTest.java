@@ -281,6 +281,23 @@ class ProgramRuleEngineTest extends TransactionalIntegrationTest
         assertEquals( "PNT-1", ruleActionSendMessage.notification() );
     }
 
+    @Test
+    void testSendMessageForEnrollmentsAndEventsInBatch()
+    {
+        setUpSendMessageForEnrollment();
+        ProgramInstance programInstance = programInstanceService.getProgramInstance( "UID-P1" );
+        List<RuleEffects> ruleEffects = programRuleEngine.evaluateEnrollmentsAndEvents( programInstance.getProgram(),
+            Lists.newArrayList(
+                new RuleEngineEnrollmentInput( programInstance, Sets.newHashSet(), Lists.newArrayList() ) ) );
+        assertEquals( 1, ruleEffects.size() );
+        RuleEffects enrollmentRuleEffects = ruleEffects.get( 0 );
+        assertTrue( enrollmentRuleEffects.isEnrollment() );
+        assertEquals( "UID-P1", enrollmentRuleEffects.getTrackerObjectUid() );
+        RuleAction ruleAction = enrollmentRuleEffects.getRuleEffects().get( 0 ).ruleAction();
+        assertTrue( ruleAction instanceof RuleActionSendMessage );
+        assertEquals( "PNT-1", ((RuleActionSendMessage) ruleAction).notification() );
+    }
+
     @Test
     void testNotificationWhenUsingD2HasValueWithTEA()
     {
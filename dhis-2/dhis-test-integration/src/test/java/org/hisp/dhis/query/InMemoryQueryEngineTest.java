@@ -127,6 +127,18 @@ class InMemoryQueryEngineTest extends TransactionalIntegrationTest
         assertEquals( 6, queryEngine.query( query ).size() );
     }
 
+    @Test
+    void getAllQueryWithEmptyOrJunction()
+    {
+        Schema schema = schemaService.getDynamicSchema( DataElement.class );
+        Query query = Query.from( schema, Junction.Type.OR );
+        query.setObjects( dataElements );
+        query.addOrder( Order.desc( schema.getProperty( "displayName" ) ) );
+        List<? extends IdentifiableObject> objects = queryEngine.query( query );
+        assertEquals( 6, objects.size() );
+        assertEquals( "deabcdefghF", objects.get( 0 ).getUid() );
+    }
+
     @Test
     void getMinMaxQuery()
     {
@@ -28,6 +28,7 @@
 package org.hisp.dhis.resourcetable;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.List;
 
@@ -43,6 +44,7 @@ import org.hisp.dhis.period.PeriodType;
 import org.hisp.dhis.test.integration.SingleSetupIntegrationTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * @author Lars Helge Overland
@@ -59,6 +61,9 @@ class ResourceTableServiceTest extends SingleSetupIntegrationTestBase
     @Autowired
     private DataSetService dataSetService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Override
     public void setUpTest()
     {
@@ -123,4 +128,33 @@ class ResourceTableServiceTest extends SingleSetupIntegrationTestBase
             resourceTableService::generateCategoryOptionComboTable );
         generators.forEach( gen -> assertDoesNotThrow( gen::run ) );
     }
+
+    @Test
+    void testGenerateOrganisationUnitStructuresAfterUpdate()
+    {
+        resourceTableService.generateOrganisationUnitStructures();
+        resourceTableService.generateOrganisationUnitStructures();
+        long count = countOrganisationUnitStructures();
+        OrganisationUnit ouD = createOrganisationUnit( 'D' );
+        idObjectManager.save( ouD );
+        resourceTableService.generateOrganisationUnitStructures();
+        assertEquals( count + 1, countOrganisationUnitStructures() );
+    }
+
+    @Test
+    void testGenerateOrganisationUnitStructuresAfterUpdateWithoutLastUpdated()
+    {
+        resourceTableService.generateOrganisationUnitStructures();
+        jdbcTemplate.update( "update organisationunit set name = 'OrganisationUnitRenamed' where code = ?",
+            "OrganisationUnitCodeA" );
+        resourceTableService.generateOrganisationUnitStructures();
+        assertEquals( 1L, jdbcTemplate.queryForObject(
+            "select count(*) from _orgunitstructure where namelevel1 = 'OrganisationUnitRenamed' and level = 1",
+            Long.class ) );
+    }
+
+    private long countOrganisationUnitStructures()
+    {
+        return jdbcTemplate.queryForObject( "select count(*) from _orgunitstructure", Long.class );
+    }
 }
@@ -1170,4 +1170,42 @@ class AclServiceTest extends TransactionalIntegrationTest
         assertEquals( true, row.next() );
         assertEquals( de.getUid(), row.getString( "uid" ) );
     }
+
+    @Test
+    void testGetAccessForListMatchesSingleObjectAccess()
+    {
+        User owner = createUserWithAuth( "userO1", "F_DATAELEMENT_PRIVATE_ADD" );
+        User user = createUserWithAuth( "userB1", "F_DATAELEMENT_PRIVATE_ADD" );
+        UserGroup userGroup = createUserGroup( 'A', new HashSet<>() );
+        userGroup.getMembers().add( user );
+        manager.save( userGroup );
+        user.getGroups().add( userGroup );
+        DataElement deA = createDataElement( 'A' );
+        deA.getSharing().setOwner( owner );
+        DataElement deB = createDataElement( 'B' );
+        deB.getSharing().setOwner( owner );
+        deB.getSharing().addUserGroupAccess( new UserGroupAccess( userGroup, "rw------" ) );
+        DataElement deC = createDataElement( 'C' );
+        deC.getSharing().setOwner( owner );
+        deC.getSharing().addUserAccess( new UserAccess( user, "r-------" ) );
+        manager.save( deA );
+        manager.save( deB );
+        manager.save( deC );
+        List<DataElement> dataElements = List.of( deA, deB, deC );
+        List<Access> accesses = aclService.getAccess( dataElements, user );
+        assertEquals( 3, accesses.size() );
+        for ( int i = 0; i < dataElements.size(); i++ )
+        {
+            Access access = aclService.getAccess( dataElements.get( i ), user );
+            assertEquals( access.isRead(), accesses.get( i ).isRead() );
+            assertEquals( access.isWrite(), accesses.get( i ).isWrite() );
+            assertEquals( access.isUpdate(), accesses.get( i ).isUpdate() );
+            assertEquals( access.isDelete(), accesses.get( i ).isDelete() );
+            assertEquals( access.isManage(), accesses.get( i ).isManage() );
+        }
+        assertFalse( accesses.get( 0 ).isUpdate() );
+        assertTrue( accesses.get( 1 ).isUpdate() );
+        assertTrue( accesses.get( 2 ).isRead() );
+        assertFalse( accesses.get( 2 ).isUpdate() );
+    }
 }
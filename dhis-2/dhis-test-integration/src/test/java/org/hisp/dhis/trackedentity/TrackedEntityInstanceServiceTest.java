@@ -28,10 +28,13 @@
 package org.hisp.dhis.trackedentity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.hisp.dhis.common.Grid;
@@ -309,4 +312,33 @@ class TrackedEntityInstanceServiceTest
 
         assertEquals( 1, grid.getHeight() );
     }
+
+    @Test
+    void testGetTrackedEntityInstanceIdsWithPageAfter()
+    {
+        injectSecurityContext( superUser );
+        entityInstanceA1.setTrackedEntityType( trackedEntityTypeA );
+        entityInstanceB1.setTrackedEntityType( trackedEntityTypeA );
+        entityInstanceService.addTrackedEntityInstance( entityInstanceA1 );
+        entityInstanceService.addTrackedEntityInstance( entityInstanceB1 );
+
+        TrackedEntityInstanceQueryParams params = new TrackedEntityInstanceQueryParams();
+        params.setOrganisationUnits( Sets.newHashSet( organisationUnit ) );
+        params.setTrackedEntityType( trackedEntityTypeA );
+        params.setPageSize( 1 );
+        params.setPageAfter( "" );
+
+        List<Long> first = entityInstanceService.getTrackedEntityInstanceIds( params, true, true );
+        assertEquals( 1, first.size() );
+        assertNotNull( params.getNextPageAfter() );
+
+        params.setPageAfter( params.getNextPageAfter() );
+        List<Long> second = entityInstanceService.getTrackedEntityInstanceIds( params, true, true );
+        assertEquals( 1, second.size() );
+        assertNotEquals( first.get( 0 ), second.get( 0 ) );
+
+        params.setPageAfter( params.getNextPageAfter() );
+        assertTrue( entityInstanceService.getTrackedEntityInstanceIds( params, true, true ).isEmpty() );
+        assertNull( params.getNextPageAfter() );
+    }
 }
@@ -30,6 +30,7 @@ package org.hisp.dhis.validation;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.hisp.dhis.expression.Operator.equal_to;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -301,6 +302,25 @@ class ValidationResultStoreTest extends TransactionalIntegrationTest
         assertTrue( validationResult.getCreated().getTime() <= afterSave.getTime() );
     }
 
+    @Test
+    void testSaveBatch()
+    {
+        Period periodC = createPeriod( new MonthlyPeriodType(), getDate( 2017, 3, 1 ), getDate( 2017, 3, 31 ) );
+        periodService.addPeriod( periodC );
+        ValidationResult validationResultC = new ValidationResult( validationRuleA, periodC, sourceC, optionComboA,
+            null, 2.0, 3 );
+        validationResultStore.saveBatch( asList( validationResultAA, validationResultAB, validationResultC ) );
+        List<ValidationResult> results = validationResultStore.getAll();
+        assertEqualSets( asList( validationResultAA, validationResultAB, validationResultC ), results );
+        for ( ValidationResult result : results )
+        {
+            assertNotNull( result.getCreated() );
+            assertEquals( periodC.equals( result.getPeriod() ) ? null : (Double) 1.0, result.getLeftsideValue() );
+        }
+        assertEquals( singletonList( validationResultAB ), results.stream()
+            .filter( ValidationResult::getNotificationSent ).collect( toList() ) );
+    }
+
     @Test
     void testDeleteValidationResult()
         throws Exception
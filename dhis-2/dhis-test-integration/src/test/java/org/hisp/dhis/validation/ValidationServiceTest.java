@@ -40,6 +40,7 @@ import static org.hisp.dhis.expression.Operator.less_than;
 import static org.hisp.dhis.expression.Operator.less_than_or_equal_to;
 import static org.hisp.dhis.expression.Operator.not_equal_to;
 import static org.hisp.dhis.expression.ParseType.SIMPLE_TEST;
+import static org.hisp.dhis.util.DateUtils.addDays;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -617,6 +618,30 @@ class ValidationServiceTest extends IntegrationTestBase
         assertResultsEquals( reference, results );
     }
 
+    @Test
+    void testValidateLastUpdated()
+    {
+        useDataValue( dataElementA, periodA, sourceB, "1" );
+        useDataValue( dataElementB, periodA, sourceB, "2" );
+        useDataValue( dataElementC, periodA, sourceB, "3" );
+        useDataValue( dataElementD, periodA, sourceB, "4" );
+        // Invalid
+        validationRuleService.saveValidationRule( ruleA );
+        // Invalid
+        validationRuleService.saveValidationRule( ruleB );
+        Collection<ValidationResult> results = runValidationAnalysis( validationService
+            .newParamsBuilder( null, sourceB, getDate( 2000, 2, 1 ), getDate( 2000, 6, 1 ) )
+            .withIncludeOrgUnitDescendants( true ).withLastUpdated( addDays( new Date(), 1 ) ).build() );
+        assertResultsEmpty( results );
+        results = runValidationAnalysis( validationService
+            .newParamsBuilder( null, sourceB, getDate( 2000, 2, 1 ), getDate( 2000, 6, 1 ) )
+            .withIncludeOrgUnitDescendants( true ).withLastUpdated( addDays( new Date(), -1 ) ).build() );
+        Collection<ValidationResult> reference = new HashSet<>();
+        reference.add( createValidationResult( ruleA, periodA, sourceB, defaultCombo, 3.0, -1.0, dayInPeriodA ) );
+        reference.add( createValidationResult( ruleB, periodA, sourceB, defaultCombo, -1.0, 4.0, dayInPeriodA ) );
+        assertResultsEquals( reference, results );
+    }
+
     @Test
     void testValidateDateDateSourcesGroup()
     {
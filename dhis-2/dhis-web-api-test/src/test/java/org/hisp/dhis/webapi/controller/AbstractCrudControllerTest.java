@@ -32,6 +32,7 @@ import static java.util.Collections.singletonList;
 import static org.hisp.dhis.web.HttpStatus.Series.SUCCESSFUL;
 import static org.hisp.dhis.web.WebClient.Body;
 import static org.hisp.dhis.web.WebClient.ContentType;
+import static org.hisp.dhis.web.WebClient.Header;
 import static org.hisp.dhis.web.WebClientUtils.assertSeries;
 import static org.hisp.dhis.web.WebClientUtils.assertStatus;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -81,6 +82,37 @@ class AbstractCrudControllerTest extends DhisControllerConvenienceTest
         assertEquals( "FirstNameadmin Surnameadmin", user.getDisplayName() );
     }
 
+    @Test
+    void testGetObjectList_NotModified()
+    {
+        assertStatus( HttpStatus.CREATED, POST( "/userGroups/", "{'name':'My Group'}" ) );
+        String eTag = GET( "/userGroups/" ).header( "ETag" );
+        assertStatus( HttpStatus.NOT_MODIFIED, GET( "/userGroups/", Header( "If-None-Match", eTag ) ) );
+
+        assertStatus( HttpStatus.CREATED, POST( "/userGroups/", "{'name':'Other Group'}" ) );
+        assertStatus( HttpStatus.OK, GET( "/userGroups/", Header( "If-None-Match", eTag ) ) );
+    }
+
+    @Test
+    void testGetObjectList_ModifiedByInverseCollection()
+    {
+        String deId = assertStatus( HttpStatus.CREATED,
+            POST( "/dataElements/", "{'name':'My data element', 'shortName':'DE1', 'valueType':'INTEGER', "
+                + "'aggregationType':'SUM', 'domainType':'AGGREGATE'}" ) );
+        String groupId = assertStatus( HttpStatus.CREATED,
+            POST( "/dataElementGroups/", "{'name':'My Group', 'shortName':'MG'}" ) );
+        String url = "/dataElements/?fields=id,dataElementGroups&filter=id:eq:" + deId;
+        String eTag = GET( url ).header( "ETag" );
+
+        // group membership is owned by the group and does not update the
+        // data element
+        assertSeries( SUCCESSFUL, POST( "/dataElementGroups/" + groupId + "/dataElements/" + deId ) );
+
+        JsonObject dataElement = GET( url, Header( "If-None-Match", String.valueOf( eTag ) ) )
+            .content( HttpStatus.OK ).getArray( "dataElements" ).getObject( 0 );
+        assertEquals( groupId, dataElement.getArray( "dataElementGroups" ).getObject( 0 ).getString( "id" ).string() );
+    }
+
     @Test
     void testGetObject()
     {
@@ -28,7 +28,9 @@
 package org.hisp.dhis.webapi.controller;
 
 import static org.hisp.dhis.web.WebClient.Accept;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
@@ -52,6 +54,24 @@ class GistCsvControllerTest extends AbstractGistControllerTest
             "/users/gist?fields=id,code,education,twitter,employer", Accept( TEXT_CSV ) ) );
     }
 
+    @Test
+    void testList_SkipPaging()
+    {
+        assertAllUserCsv( GET(
+            "/users/gist?fields=id,code,education,twitter,employer&pageSize=1&paging=false", Accept( TEXT_CSV ) ) );
+    }
+
+    @Test
+    void testList_Ndjson()
+    {
+        List<String> lines = List.of( GET( "/users/gist?fields=id,code", Accept( "application/x-ndjson" ) )
+            .content( "application/x-ndjson" ).split( "\n" ) );
+        List<User> allUsers = userService.getAllUsers();
+
+        assertEquals( allUsers.size(), lines.size() );
+        assertTrue( lines.get( 0 ).contains( "\"id\":\"" + allUsers.get( 0 ).getUid() + "\"" ) );
+    }
+
     @Test
     void testObject()
     {
@@ -43,6 +43,7 @@ import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 
 import org.hisp.dhis.system.util.CsvUtils;
 
@@ -113,6 +114,18 @@ public final class CsvBuilder
     }
 
     public void toRows( List<String> fields, List<?> values )
+    {
+        toRows( fields, values::forEach );
+    }
+
+    /**
+     * Same as {@link #toRows(List, List)} but the rows are pushed by the source
+     * one by one so that they do not need to be held in memory.
+     *
+     * @param fields names of the columns
+     * @param source called once with a consumer that accepts the rows
+     */
+    public void toRows( List<String> fields, Consumer<Consumer<Object>> source )
     {
         try
         {
@@ -124,23 +137,32 @@ public final class CsvBuilder
                 }
                 out.endRecord();
             }
-            final int columns = fields.size();
-            for ( Object value : values )
+        }
+        catch ( IOException ex )
+        {
+            throw new UncheckedIOException( ex );
+        }
+        final int columns = fields.size();
+        source.accept( value -> toRow( columns, value ) );
+    }
+
+    private void toRow( int columns, Object value )
+    {
+        try
+        {
+            if ( value instanceof Object[] )
             {
-                if ( value instanceof Object[] )
+                Object[] row = (Object[]) value;
+                for ( int c = 0; c < columns; c++ )
                 {
-                    Object[] row = (Object[]) value;
-                    for ( int c = 0; c < columns; c++ )
-                    {
-                        out.write( toCsvValue( row[c] ) );
-                    }
+                    out.write( toCsvValue( row[c] ) );
                 }
-                else
-                {
-                    out.write( toCsvValue( value ) );
-                }
-                out.endRecord();
             }
+            else
+            {
+                out.write( toCsvValue( value ) );
+            }
+            out.endRecord();
         }
         catch ( IOException ex )
         {
@@ -115,18 +115,20 @@ public final class JsonBuilder
         ArrayNode arr = jackson.createArrayNode();
         for ( Object e : values )
         {
-            if ( fields.size() == 1 )
-            {
-                arr.add( toElement( e ) );
-            }
-            else
-            {
-                arr.add( toElement( fields, e ) );
-            }
+            arr.add( toArrayElement( fields, e ) );
         }
         return arr;
     }
 
+    /**
+     * @return the element {@link #toArray(List, List)} would add for the
+     *         given value
+     */
+    public JsonNode toArrayElement( List<String> fields, Object value )
+    {
+        return fields.size() == 1 ? toElement( value ) : toElement( fields, value );
+    }
+
     private JsonNode toElement( List<String> fields, Object e )
     {
         if ( e instanceof Object[] )
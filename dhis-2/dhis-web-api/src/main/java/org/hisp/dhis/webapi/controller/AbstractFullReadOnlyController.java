@@ -34,19 +34,24 @@ import static org.springframework.http.CacheControl.noCache;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.apache.commons.lang3.StringUtils;
 import org.hisp.dhis.attribute.AttributeService;
 import org.hisp.dhis.attribute.AttributeValue;
 import org.hisp.dhis.common.BaseIdentifiableObject;
@@ -54,6 +59,7 @@ import org.hisp.dhis.common.CodeGenerator;
 import org.hisp.dhis.common.DhisApiVersion;
 import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.common.IdentifiableObjectManager;
+import org.hisp.dhis.common.IdentifiableObjectUtils;
 import org.hisp.dhis.common.Pager;
 import org.hisp.dhis.common.PrimaryKeyObject;
 import org.hisp.dhis.dxf2.common.OrderParams;
@@ -73,11 +79,11 @@ import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.PropertyType;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.security.acl.AclService;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.hisp.dhis.user.CurrentUser;
 import org.hisp.dhis.user.CurrentUserService;
 import org.hisp.dhis.user.CurrentUserUtil;
 import org.hisp.dhis.user.User;
+import org.hisp.dhis.user.UserRole;
 import org.hisp.dhis.user.UserSettingKey;
 import org.hisp.dhis.user.UserSettingService;
 import org.hisp.dhis.webapi.mvc.annotation.ApiVersion;
@@ -105,6 +111,7 @@ import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import com.fasterxml.jackson.dataformat.csv.CsvWriteException;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 
 /**
  * Base controller for APIs that only want to offer read only access through
@@ -174,6 +181,20 @@ public abstract class AbstractFullReadOnlyController<T extends IdentifiableObjec
     {
     }
 
+    /**
+     * Override to return false when the list of this type depends on more
+     * than the listed objects and the current user, for example because
+     * entities are post-processed with other data.
+     *
+     * @return true, if conditional GET requests for lists can be answered
+     *         based on the last updated timestamp and count of the listed
+     *         type.
+     */
+    protected boolean isConditionalListSupported()
+    {
+        return getSchema().isMetadata() && getSchema().isPersisted();
+    }
+
     /**
      * Allows to append new filters to the incoming ones. Recommended only on
      * very specific cases where forcing a new filter, programmatically, make
@@ -213,6 +234,11 @@ public abstract class AbstractFullReadOnlyController<T extends IdentifiableObjec
 
         forceFiltering( options, filters );
 
+        if ( isListNotModified( fields, filters, currentUser, response ) )
+        {
+            return ResponseEntity.status( HttpStatus.NOT_MODIFIED ).build();
+        }
+
         List<T> entities = getEntityList( metadata, options, filters, orders );
 
         Pager pager = metadata.getPager();
@@ -319,7 +345,7 @@ public abstract class AbstractFullReadOnlyController<T extends IdentifiableObjec
                 {
                     schemaBuilder.addColumn( property.getName() );
                     obj2valueByProperty.put( property.getName(),
-                        obj -> ReflectionUtils.invokeMethod( obj, property.getGetterMethod() ) );
+                        obj -> property.getValue( obj ) );
                 }
             }
         }
@@ -379,7 +405,7 @@ public abstract class AbstractFullReadOnlyController<T extends IdentifiableObjec
 
     private static List<String> getCollectionValue( Object obj, Property property )
     {
-        Object value = ReflectionUtils.invokeMethod( obj, property.getGetterMethod() );
+        Object value = property.getValue( obj );
 
         @SuppressWarnings( "unchecked" )
         Collection<IdentifiableObject> collection = (Collection<IdentifiableObject>) value;
@@ -553,6 +579,67 @@ public abstract class AbstractFullReadOnlyController<T extends IdentifiableObjec
         return queryService.count( query );
     }
 
+    /**
+     * Computes a weak ETag for a list request and checks it against the
+     * If-None-Match header. Any change to an object of the listed type either
+     * changes the most recent last updated timestamp or the count of the type,
+     * so together with the request and the current user this identifies the
+     * list without loading it. Fields other than simple properties, such as
+     * inverse collections which change without updating the listed objects,
+     * and filters reaching into other objects are not covered by the tag and
+     * skip the check. The most recent last updated timestamp of user roles is
+     * included as changed authorities can change which objects are visible.
+     */
+    private boolean isListNotModified( List<String> fields, List<String> filters, User currentUser,
+        HttpServletResponse response )
+    {
+        if ( !isConditionalListSupported() || currentUser == null
+            || !fields.stream().flatMap( field -> Arrays.stream( field.split( "," ) ) )
+                .allMatch( this::isSimpleField )
+            || filters.stream().anyMatch( filter -> StringUtils.substringBefore( filter, ":" ).contains( "." ) ) )
+        {
+            return false;
+        }
+
+        HttpServletRequest request = contextService.getRequest();
+
+        String key = String.join( "|",
+            getEntityClass().getName(),
+            String.valueOf( manager.getCount( getEntityClass() ) ),
+            String.valueOf( manager.getLastUpdated( getEntityClass() ) ),
+            String.valueOf( request.getQueryString() ),
+            currentUser.getUid(),
+            String.valueOf( currentUser.getLastUpdated() ),
+            String.valueOf( new TreeSet<>( IdentifiableObjectUtils.getUids( currentUser.getGroups() ) ) ),
+            String.valueOf( new TreeSet<>( IdentifiableObjectUtils.getUids( currentUser.getUserRoles() ) ) ),
+            String.valueOf( manager.getLastUpdated( UserRole.class ) ),
+            Objects.toString( CurrentUserUtil.getUserSetting( UserSettingKey.DB_LOCALE ) ) );
+
+        String tag = Hashing.sha256().hashString( key, StandardCharsets.UTF_8 ).toString();
+
+        if ( ContextUtils.isNotModified( request, response, tag ) )
+        {
+            cachePrivate( response );
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Indicates whether the given field is a simple property of the listed
+     * type, ignoring transformers and renames. Presets, wildcards, nested
+     * fields and properties referring to other objects are not simple.
+     */
+    private boolean isSimpleField( String field )
+    {
+        String name = field.trim().split( "[~:|]", 2 )[0];
+
+        Property property = getSchema().getProperty( name );
+
+        return property != null && property.isSimple();
+    }
+
     private void cachePrivate( HttpServletResponse response )
     {
         response.setHeader( ContextUtils.HEADER_CACHE_CONTROL,
@@ -32,6 +32,7 @@ import static org.springframework.http.CacheControl.noCache;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
@@ -70,6 +71,7 @@ import org.springframework.web.bind.annotation.ResponseBody;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 
 /**
  * Base controller for APIs that only want to offer read-only access though Gist
@@ -80,6 +82,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @ApiVersion( { DhisApiVersion.DEFAULT, DhisApiVersion.ALL } )
 public abstract class AbstractGistReadOnlyController<T extends PrimaryKeyObject>
 {
+    private static final String NDJSON_VALUE = "application/x-ndjson";
 
     @Autowired
     protected ObjectMapper jsonMapper;
@@ -130,6 +133,13 @@ public abstract class AbstractGistReadOnlyController<T extends PrimaryKeyObject>
             .toBuilder().typedAttributeValues( false ).build() );
     }
 
+    @GetMapping( value = "/gist", produces = NDJSON_VALUE )
+    public void getObjectListGistAsNdjson( HttpServletRequest request, HttpServletResponse response )
+        throws IOException
+    {
+        gistToNdjsonResponse( response, createGistQuery( request, getEntityClass(), GistAutoType.S ) );
+    }
+
     @GetMapping( value = "/{uid}/{property}/gist", produces = APPLICATION_JSON_VALUE )
     public @ResponseBody ResponseEntity<JsonNode> getObjectPropertyGist(
         @PathVariable( "uid" ) String uid,
@@ -170,6 +180,21 @@ public abstract class AbstractGistReadOnlyController<T extends PrimaryKeyObject>
             .toBuilder().typedAttributeValues( false ).build() );
     }
 
+    @GetMapping( value = "/{uid}/{property}/gist", produces = NDJSON_VALUE )
+    public void getObjectPropertyGistAsNdjson(
+        @PathVariable( "uid" ) String uid,
+        @PathVariable( "property" ) String property,
+        HttpServletRequest request, HttpServletResponse response )
+        throws Exception
+    {
+        Property objProperty = getSchema().getProperty( property );
+        if ( objProperty == null || !objProperty.isCollection() )
+        {
+            throw new BadRequestException( "No such collection property: " + property );
+        }
+        gistToNdjsonResponse( response, createPropertyQuery( uid, property, request, objProperty ) );
+    }
+
     @SuppressWarnings( "unchecked" )
     private GistQuery createPropertyQuery( @PathVariable( "uid" ) String uid,
         @PathVariable( "property" ) String property, HttpServletRequest request, Property objProperty )
@@ -246,10 +271,37 @@ public abstract class AbstractGistReadOnlyController<T extends PrimaryKeyObject>
     {
         query = gistService.plan( query ).toBuilder().references( false ).build();
         response.addHeader( HttpHeaders.CONTENT_TYPE, "text/csv" );
+        GistQuery csvQuery = query;
         new CsvBuilder( response.getWriter() )
             .withLocale( query.getTranslationLocale() )
             .skipHeaders( query.isHeadless() )
-            .toRows( query.getFieldNames(), gistService.gist( query ) );
+            .toRows( query.getFieldNames(), rows -> gistService.gist( csvQuery, rows::accept ) );
+    }
+
+    /**
+     * Writes one JSON value per line as the rows are read from the database.
+     */
+    private void gistToNdjsonResponse( HttpServletResponse response, GistQuery query )
+        throws IOException
+    {
+        GistQuery plannedQuery = gistService.plan( query ).toBuilder().references( false ).build();
+        List<String> fields = plannedQuery.getFieldNames();
+        JsonBuilder rowBuilder = new JsonBuilder( jsonMapper ).skipNullOrEmpty();
+        response.addHeader( HttpHeaders.CONTENT_TYPE, NDJSON_VALUE );
+        try ( SequenceWriter out = jsonMapper.writer().withRootValueSeparator( "\n" )
+            .writeValues( response.getOutputStream() ) )
+        {
+            gistService.gist( plannedQuery, row -> {
+                try
+                {
+                    out.write( rowBuilder.toArrayElement( fields, row ) );
+                }
+                catch ( IOException ex )
+                {
+                    throw new UncheckedIOException( ex );
+                }
+            } );
+        }
     }
 
     // --------------------------------------------------------------------------
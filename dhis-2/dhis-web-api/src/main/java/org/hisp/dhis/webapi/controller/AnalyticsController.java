@@ -32,6 +32,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.TEXT_HTML_VALUE;
 import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import lombok.AllArgsConstructor;
@@ -41,6 +42,7 @@ import org.hisp.dhis.analytics.AnalyticsService;
 import org.hisp.dhis.analytics.AnalyticsTableType;
 import org.hisp.dhis.analytics.DataQueryParams;
 import org.hisp.dhis.analytics.DataQueryService;
+import org.hisp.dhis.analytics.QueryKey;
 import org.hisp.dhis.analytics.util.AnalyticsUtils;
 import org.hisp.dhis.common.AggregateAnalyticsQueryCriteria;
 import org.hisp.dhis.common.DataQueryRequest;
@@ -48,7 +50,10 @@ import org.hisp.dhis.common.DhisApiVersion;
 import org.hisp.dhis.common.Grid;
 import org.hisp.dhis.common.cache.CacheStrategy;
 import org.hisp.dhis.dxf2.datavalueset.DataValueSet;
+import org.hisp.dhis.setting.SettingKey;
+import org.hisp.dhis.setting.SystemSettingManager;
 import org.hisp.dhis.system.grid.GridUtils;
+import org.hisp.dhis.user.CurrentUserService;
 import org.hisp.dhis.webapi.mvc.annotation.ApiVersion;
 import org.hisp.dhis.webapi.utils.ContextUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -81,6 +86,12 @@ public class AnalyticsController
     @NonNull
     private final ContextUtils contextUtils;
 
+    @NonNull
+    private final SystemSettingManager systemSettingManager;
+
+    @NonNull
+    private final CurrentUserService currentUserService;
+
     // -------------------------------------------------------------------------
     // Resources
     // -------------------------------------------------------------------------
@@ -99,9 +110,17 @@ public class AnalyticsController
     public @ResponseBody Grid getJson( // JSON, JSONP
         AggregateAnalyticsQueryCriteria criteria,
         DhisApiVersion apiVersion,
+        HttpServletRequest request,
         HttpServletResponse response )
     {
-        return getGrid( criteria, apiVersion, ContextUtils.CONTENT_TYPE_JSON, response );
+        DataQueryParams params = dataQueryService.getFromRequest( mapFromCriteria( criteria, apiVersion ) );
+
+        if ( ContextUtils.isNotModified( request, response, getETag( params, request ) ) )
+        {
+            return null;
+        }
+
+        return getGrid( params, criteria, ContextUtils.CONTENT_TYPE_JSON, response );
     }
 
     @GetMapping( value = RESOURCE_PATH + ".xml" )
@@ -316,6 +335,12 @@ public class AnalyticsController
                 .build();
         }
 
+        return getGrid( params, criteria, contentType, response );
+    }
+
+    private Grid getGrid( DataQueryParams params, AggregateAnalyticsQueryCriteria criteria, String contentType,
+        HttpServletResponse response )
+    {
         contextUtils.configureAnalyticsResponse( response, contentType, CacheStrategy.RESPECT_SYSTEM_SETTING,
             null, false, params.getLatestEndDate() );
 
@@ -323,6 +348,25 @@ public class AnalyticsController
             getItemsFromParam( criteria.getRows() ) );
     }
 
+    /**
+     * Aggregated data only changes when the analytics tables are regenerated,
+     * so the ETag combines the query, the current user and the time of the
+     * last successful analytics table and latest partition update. Like the
+     * analytics cache, changes to metadata names do not invalidate the tag.
+     */
+    private String getETag( DataQueryParams params, HttpServletRequest request )
+    {
+        return new QueryKey()
+            .add( "params", params.getKey() )
+            .add( "query", request.getQueryString() )
+            .add( "user", currentUserService.getCurrentUsername() )
+            .addIgnoreNull( "tables",
+                systemSettingManager.getDateSetting( SettingKey.LAST_SUCCESSFUL_ANALYTICS_TABLES_UPDATE ) )
+            .addIgnoreNull( "partition",
+                systemSettingManager.getDateSetting( SettingKey.LAST_SUCCESSFUL_LATEST_ANALYTICS_PARTITION_UPDATE ) )
+            .build();
+    }
+
     private Grid getGridWithAttachment( AggregateAnalyticsQueryCriteria criteria, DhisApiVersion apiVersion,
         String contentType, String file, HttpServletResponse response )
     {
@@ -97,6 +97,12 @@ public class InterpretationController extends AbstractCrudController<Interpretat
     @Autowired
     private IdentifiableObjectManager idObjectManager;
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     protected List<Interpretation> getEntityList( WebMetadata metadata, WebOptions options, List<String> filters,
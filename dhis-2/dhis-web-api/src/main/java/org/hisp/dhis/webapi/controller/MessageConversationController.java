@@ -177,6 +177,12 @@ public class MessageConversationController
         return super.getObject( uid, rpParameters, currentUser, request, response );
     }
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     protected List<org.hisp.dhis.message.MessageConversation> getEntityList( WebMetadata metadata, WebOptions options,
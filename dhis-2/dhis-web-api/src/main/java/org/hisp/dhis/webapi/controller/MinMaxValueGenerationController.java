@@ -44,6 +44,7 @@ import org.hisp.dhis.minmax.MinMaxDataElementService;
 import org.hisp.dhis.minmax.MinMaxValueParams;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.organisationunit.OrganisationUnitService;
+import org.hisp.dhis.scheduling.NoopJobProgress;
 import org.hisp.dhis.setting.SettingKey;
 import org.hisp.dhis.setting.SystemSettingManager;
 import org.hisp.dhis.webapi.mvc.annotation.ApiVersion;
@@ -116,7 +117,8 @@ public class MinMaxValueGenerationController
 
         Double factor = this.systemSettingManager.getSystemSetting( SettingKey.FACTOR_OF_DEVIATION, Double.class );
 
-        this.minMaxDataAnalysisService.generateMinMaxValues( organisationUnit, dataElements, factor );
+        this.minMaxDataAnalysisService.generateMinMaxValues( organisationUnit, dataElements, factor,
+            NoopJobProgress.INSTANCE );
     }
 
     @DeleteMapping( "/{ou}" )
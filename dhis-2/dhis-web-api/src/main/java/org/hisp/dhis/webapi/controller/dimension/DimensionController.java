@@ -105,6 +105,12 @@ public class DimensionController
     // Controller
     // -------------------------------------------------------------------------
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     protected @ResponseBody List<DimensionalObject> getEntityList( WebMetadata metadata, WebOptions options,
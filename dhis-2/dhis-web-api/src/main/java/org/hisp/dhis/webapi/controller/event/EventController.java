@@ -135,6 +135,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Lists;
@@ -152,6 +154,8 @@ public class EventController
 
     private static final String META_DATA_KEY_DE = "de";
 
+    private static final int NDJSON_PAGE_SIZE = 1000;
+
     // --------------------------------------------------------------------------
     // Dependencies
     // --------------------------------------------------------------------------
@@ -186,6 +190,8 @@ public class EventController
 
     private final ContextUtils contextUtils;
 
+    private final ObjectMapper jsonMapper;
+
     private Schema schema;
 
     protected Schema getSchema()
@@ -621,7 +627,7 @@ public class EventController
     {
         if ( events.getPager() != null )
         {
-            if ( params.isTotalPages() )
+            if ( params.isTotalPages() && !params.isKeysetPaging() )
             {
                 rootNode.addChild( NodeUtils.createPager( events.getPager() ) );
             }
@@ -632,6 +638,35 @@ public class EventController
         }
     }
 
+    /**
+     * Writes all matching events as newline delimited JSON, starting after the
+     * event given by the page after token if present. The events are fetched
+     * in keyset pages, so neither offsets nor a total are computed.
+     */
+    @GetMapping( produces = ContextUtils.CONTENT_TYPE_NDJSON )
+    public void getNdjsonEvents( EventCriteria eventCriteria, HttpServletResponse response )
+        throws IOException
+    {
+        EventSearchParams params = requestToSearchParamsMapper.map( eventCriteria );
+        params.setSkipPaging( false );
+        params.setPageSize( NDJSON_PAGE_SIZE );
+        params.setPageAfter( StringUtils.defaultString( params.getPageAfter() ) );
+
+        response.setContentType( ContextUtils.CONTENT_TYPE_NDJSON );
+
+        try ( SequenceWriter out = jsonMapper.writer().withRootValueSeparator( "\n" )
+            .writeValues( response.getOutputStream() ) )
+        {
+            do
+            {
+                out.writeAll( eventService.getEvents( params ).getEvents() );
+                out.flush();
+                params.setPageAfter( params.getNextPageAfter() );
+            }
+            while ( params.getPageAfter() != null );
+        }
+    }
+
     @GetMapping( produces = { "application/csv", "application/csv+gzip", "text/csv" } )
     public void getCsvEvents(
         EventCriteria eventCriteria,
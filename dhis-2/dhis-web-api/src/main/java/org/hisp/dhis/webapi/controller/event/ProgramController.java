@@ -72,6 +72,12 @@ public class ProgramController
     @Autowired
     private ProgramService programService;
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     protected List<Program> getEntityList( WebMetadata metadata, WebOptions options, List<String> filters,
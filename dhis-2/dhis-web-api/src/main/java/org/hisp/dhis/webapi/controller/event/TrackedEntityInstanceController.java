@@ -57,6 +57,7 @@ import org.hisp.dhis.common.DhisApiVersion;
 import org.hisp.dhis.common.DxfNamespaces;
 import org.hisp.dhis.common.Grid;
 import org.hisp.dhis.common.Pager;
+import org.hisp.dhis.common.SlimPager;
 import org.hisp.dhis.common.ValueType;
 import org.hisp.dhis.common.cache.CacheStrategy;
 import org.hisp.dhis.commons.util.StreamUtils;
@@ -109,6 +110,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Lists;
@@ -129,6 +132,8 @@ import com.google.common.collect.Lists;
 @RequiredArgsConstructor
 public class TrackedEntityInstanceController
 {
+    private static final int NDJSON_PAGE_SIZE = 1000;
+
     private final TrackedEntityInstanceService trackedEntityInstanceService;
 
     private final org.hisp.dhis.trackedentity.TrackedEntityInstanceService instanceService;
@@ -151,6 +156,8 @@ public class TrackedEntityInstanceController
 
     private final TrackedEntityInstanceStrategyHandler trackedEntityInstanceStrategyHandler;
 
+    private final ObjectMapper jsonMapper;
+
     // -------------------------------------------------------------------------
     // READ
     // -------------------------------------------------------------------------
@@ -170,7 +177,14 @@ public class TrackedEntityInstanceController
 
         RootNode rootNode = NodeUtils.createMetadata();
 
-        if ( queryParams.isPaging() && queryParams.isTotalPages() )
+        if ( queryParams.isKeysetPaging() )
+        {
+            SlimPager pager = new SlimPager( queryParams.getPageWithDefault(), queryParams.getPageSizeWithDefault(),
+                queryParams.getNextPageAfter() == null );
+            pager.setNextPageAfter( queryParams.getNextPageAfter() );
+            rootNode.addChild( NodeUtils.createSlimPager( pager ) );
+        }
+        else if ( queryParams.isPaging() && queryParams.isTotalPages() )
         {
             int count = trackedEntityInstanceService.getTrackedEntityInstanceCount( queryParams, true, true );
             Pager pager = new Pager( queryParams.getPageWithDefault(), count, queryParams.getPageSizeWithDefault() );
@@ -190,6 +204,42 @@ public class TrackedEntityInstanceController
         return rootNode;
     }
 
+    /**
+     * Writes all matching tracked entity instances as newline delimited JSON,
+     * starting after the instance given by the page after token if present.
+     * The instances are fetched in keyset pages, so neither offsets nor a total
+     * are computed.
+     */
+    @GetMapping( produces = ContextUtils.CONTENT_TYPE_NDJSON )
+    public void getTrackedEntityInstancesAsNdjson( TrackedEntityInstanceCriteria criteria,
+        HttpServletResponse response )
+        throws IOException
+    {
+        List<String> fields = contextService.getFieldsFromRequestOrAll();
+
+        TrackedEntityInstanceQueryParams queryParams = criteriaMapper.map( criteria )
+            .setSkipPaging( false )
+            .setPageSize( NDJSON_PAGE_SIZE );
+        queryParams.setPageAfter( StringUtils.defaultString( queryParams.getPageAfter() ) );
+
+        TrackedEntityInstanceParams params = getTrackedEntityInstanceParams( fields );
+
+        response.setContentType( ContextUtils.CONTENT_TYPE_NDJSON );
+
+        try ( SequenceWriter out = jsonMapper.writer().withRootValueSeparator( "\n" )
+            .writeValues( response.getOutputStream() ) )
+        {
+            do
+            {
+                out.writeAll( trackedEntityInstanceService.getTrackedEntityInstances( queryParams, params, false,
+                    false ) );
+                out.flush();
+                queryParams.setPageAfter( queryParams.getNextPageAfter() );
+            }
+            while ( queryParams.getPageAfter() != null );
+        }
+    }
+
     @GetMapping( "/{teiId}/{attributeId}/image" )
     public void getAttributeImage(
         @PathVariable( "teiId" ) String teiId,
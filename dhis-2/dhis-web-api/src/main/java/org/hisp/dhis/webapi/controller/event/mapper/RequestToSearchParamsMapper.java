@@ -350,7 +350,8 @@ public class RequestToSearchParamsMapper
             eventCriteria.getFilter(),
             dataElementOrders.keySet(),
             false,
-            eventCriteria.isIncludeDeleted() );
+            eventCriteria.isIncludeDeleted() )
+                .setPageAfter( eventCriteria.getPageAfter() );
     }
 
     private List<OrderParam> getOrderParams( List<OrderCriteria> order )
@@ -203,6 +203,7 @@ public class TrackedEntityCriteriaMapper
             .setPageSize( criteria.getPageSize() )
             .setTotalPages( criteria.isTotalPages() )
             .setSkipPaging( criteria.isSkipPaging() )
+            .setPageAfter( criteria.getPageAfter() )
             .setIncludeDeleted( criteria.isIncludeDeleted() )
             .setIncludeAllAttributes( criteria.isIncludeAllAttributes() )
             .setUser( user )
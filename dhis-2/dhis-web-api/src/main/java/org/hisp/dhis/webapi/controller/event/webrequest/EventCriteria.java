@@ -99,6 +99,12 @@ public class EventCriteria extends PagingAndSortingCriteriaAdapter
 
     private boolean includeDeleted;
 
+    /**
+     * Token of the event after which the page starts, for keyset paging. An
+     * empty value requests the first page.
+     */
+    private String pageAfter;
+
     private String event;
 
     private Boolean skipEventId;
@@ -186,6 +186,12 @@ public class TrackedEntityInstanceCriteria extends PagingAndSortingCriteriaAdapt
      */
     private boolean includeAllAttributes;
 
+    /**
+     * Token of the tracked entity instance after which the page starts, for
+     * keyset paging. An empty value requests the first page.
+     */
+    private String pageAfter;
+
     /**
      * The file name in case of exporting as file
      */
@@ -123,6 +123,12 @@ public class MapViewController
     // Hooks
     // --------------------------------------------------------------------------
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     protected List<MapView> getEntityList( WebMetadata metadata, WebOptions options, List<String> filters,
@@ -89,6 +89,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -149,9 +150,12 @@ public class MetadataImportExportController
     {
         MetadataImportParams params = metadataImportService.getParamsFromMap( contextService.getParameterValuesMap() );
 
+        JsonNode rootNode = jsonMapper.readTree( StreamUtils.wrapAndCheckCompressionFormat( request.getInputStream() ) );
+
         final Map<Class<? extends IdentifiableObject>, List<IdentifiableObject>> objects = renderService
-            .fromMetadata( StreamUtils.wrapAndCheckCompressionFormat( request.getInputStream() ), RenderFormat.JSON );
+            .fromMetadata( rootNode );
         params.setObjects( objects );
+        params.setDeletedObjects( renderService.fromDeletedObjects( rootNode ) );
 
         if ( params.hasJobId() )
         {
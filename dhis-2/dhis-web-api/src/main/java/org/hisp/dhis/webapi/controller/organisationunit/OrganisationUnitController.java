@@ -124,6 +124,12 @@ public class OrganisationUnitController
         return ok( "Organisation units merged" );
     }
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     protected List<OrganisationUnit> getEntityList( WebMetadata metadata, WebOptions options, List<String> filters,
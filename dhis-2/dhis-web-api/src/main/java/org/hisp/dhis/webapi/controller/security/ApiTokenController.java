@@ -94,6 +94,12 @@ public class ApiTokenController extends AbstractCrudController<ApiToken>
         entity.setKey( null );
     }
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     protected void postProcessResponseEntities( List<ApiToken> entityList, WebOptions options,
         Map<String, String> parameters )
@@ -66,6 +66,12 @@ public class UserRoleController
     @Autowired
     private UserService userService;
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     protected List<UserRole> getEntityList( WebMetadata metadata, WebOptions options, List<String> filters,
         List<Order> orders )
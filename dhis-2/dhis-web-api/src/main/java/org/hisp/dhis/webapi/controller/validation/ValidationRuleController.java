@@ -78,6 +78,12 @@ public class ValidationRuleController
     @Autowired
     private I18nManager i18nManager;
 
+    @Override
+    protected boolean isConditionalListSupported()
+    {
+        return false;
+    }
+
     @Override
     protected List<ValidationRule> getEntityList( WebMetadata metadata, WebOptions options, List<String> filters,
         List<Order> orders )
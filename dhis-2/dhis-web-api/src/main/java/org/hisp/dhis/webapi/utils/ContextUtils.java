@@ -65,6 +65,8 @@ public class ContextUtils
 
     public static final String CONTENT_TYPE_JSON = "application/json; charset=UTF-8";
 
+    public static final String CONTENT_TYPE_NDJSON = "application/x-ndjson";
+
     public static final String CONTENT_TYPE_HTML = "text/html; charset=UTF-8";
 
     public static final String CONTENT_TYPE_TEXT = "text/plain; charset=UTF-8";
@@ -35,6 +35,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -105,7 +106,7 @@ class AnalyticsControllerTest
 
         // Controller under test
         final AnalyticsController controller = new AnalyticsController( dataQueryService, analyticsService,
-            contextUtils );
+            contextUtils, mock( SystemSettingManager.class ), mock( CurrentUserService.class ) );
 
         mockMvc = MockMvcBuilders.standaloneSetup( controller ).build();
 
@@ -132,6 +133,26 @@ class AnalyticsControllerTest
             .andExpect( content().contentType( "application/json" ) );
     }
 
+    @Test
+    void verifyJsonRequestNotModified()
+        throws Exception
+    {
+        String eTag = mockMvc.perform( get( ENDPOINT )
+            .param( "dimension", "dx:fbfJHSPpUQD;cYeuwXTCPkU" )
+            .param( "filter", "pe:2014Q1;2014Q2" ) )
+            .andExpect( status().isOk() )
+            .andExpect( header().exists( ContextUtils.HEADER_ETAG ) )
+            .andReturn().getResponse().getHeader( ContextUtils.HEADER_ETAG );
+
+        // Then
+        mockMvc.perform( get( ENDPOINT )
+            .param( "dimension", "dx:fbfJHSPpUQD;cYeuwXTCPkU" )
+            .param( "filter", "pe:2014Q1;2014Q2" )
+            .header( ContextUtils.HEADER_IF_NONE_MATCH, eTag ) )
+            .andExpect( status().isNotModified() )
+            .andExpect( content().string( "" ) );
+    }
+
     @Test
     void verifyXmlRequest()
         throws Exception
@@ -100,7 +100,8 @@ class TrackedEntityInstanceControllerTest
             mock( TrackedEntityInstanceService.class ), instanceService, null, null, null,
             currentUserService, null, trackerAccessManager, null, null,
             new TrackedEntityInstanceStrategyImpl(
-                trackedEntityInstanceSyncStrategy, trackedEntityInstanceAsyncStrategy ) );
+                trackedEntityInstanceSyncStrategy, trackedEntityInstanceAsyncStrategy ),
+            null );
 
         mockMvc = MockMvcBuilders.standaloneSetup( controller ).build();
         when( currentUserService.getCurrentUser() ).thenReturn( user );